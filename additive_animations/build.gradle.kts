@@ -51,6 +51,13 @@ android {
         jvmTarget = "17"
     }
 
+    testOptions {
+        unitTests.all {
+            // The Robolectric benchmarks only run with -Pbenchmarks, see Microbenchmark.
+            it.systemProperty("additive.benchmarks", project.hasProperty("benchmarks").toString())
+        }
+    }
+
     publishing {
         singleVariant("release") {
             withSourcesJar()
@@ -60,8 +67,10 @@ android {
 }
 
 dependencies {
+    api(project(":additive_core"))
     implementation("androidx.core:core-ktx:1.15.0")
     testImplementation("junit:junit:4.13.2")
+    testImplementation("org.robolectric:robolectric:4.14.1")
     implementation("androidx.appcompat:appcompat:1.7.0")
     implementation("com.google.android.material:material:1.12.0")
 }
@@ -74,7 +83,7 @@ afterEvaluate {
 
                 groupId = "at.wirecube"
                 artifactId = "additive_animations"
-                version = "1.10.1"
+                version = "1.11.0"
 
                 pom {
                     name.set("Android Additive Animations")
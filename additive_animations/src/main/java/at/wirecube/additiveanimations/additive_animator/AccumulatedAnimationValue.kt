@@ -15,12 +15,9 @@
  */
 package at.wirecube.additiveanimations.additive_animator
 
-class AccumulatedAnimationValue<T: Any>(@JvmField val animation: AdditiveAnimation<T>) {
+import at.wirecube.additiveanimations.additive_core.AccumulatedValue
 
-    @JvmField
-    var tempValue: Float = 0f
-
-    fun addDelta(delta: Float) {
-        tempValue += delta
-    }
-}
+/**
+ * The [AccumulatedValue] of one property of one target. All animations with the same tag and target share the same instance.
+ */
+class AccumulatedAnimationValue<T: Any>(@JvmField val animation: AdditiveAnimation<T>) : AccumulatedValue()
@@ -16,28 +16,42 @@
 
 package at.wirecube.additiveanimations.additive_animator;
 
-import java.util.HashMap;
+import java.lang.ref.WeakReference;
+
+import at.wirecube.additiveanimations.additive_core.PropertyIdMap;
 
 /**
  * Helper class for accumulating the changes made by all of the additive animators.
  */
 class AccumulatedAnimationValueManager {
 
-    private HashMap<AdditiveAnimation, AccumulatedAnimationValue> accumulatedAnimationValues = new HashMap<>();
+    // There is one manager per target, so the property ID is enough to identify the value.
+    // The values are only referenced weakly: they are kept alive by the animations using them, and since each value references
+    // an animation (and therefore the target), a strong reference would keep the target alive as well.
+    private final PropertyIdMap<WeakReference<AccumulatedAnimationValue>> accumulatedAnimationValues = new PropertyIdMap<>();
+
+    /**
+     * Returns the value shared by all running animations of the given property, or null if there is none.
+     */
+    AccumulatedAnimationValue get(int propertyId) {
+        WeakReference<AccumulatedAnimationValue> reference = accumulatedAnimationValues.get(propertyId);
+        return reference == null ? null : reference.get();
+    }
 
     /**
-     *  Returns an accumulator to use for this animation. All animations with the same tag and target share the same accumulator.
-     *  The lookup is rather slow, so try to store the returned object somewhere you can access it directly.
+     * Creates the value all animations with the same property and target as `animation` will share.
      */
-    public AccumulatedAnimationValue getAccumulatedAnimationValue(AdditiveAnimation animation) {
-        // TODO: is there any way to make this `get()` faster?
-        AccumulatedAnimationValue accumulatedAnimationValue = accumulatedAnimationValues.get(animation);
-        if(accumulatedAnimationValue != null) {
-            return accumulatedAnimationValue;
-        }
-        accumulatedAnimationValue = new AccumulatedAnimationValue(animation);
-        accumulatedAnimationValues.put(animation, accumulatedAnimationValue);
+    AccumulatedAnimationValue create(AdditiveAnimation animation) {
+        AccumulatedAnimationValue accumulatedAnimationValue = new AccumulatedAnimationValue(animation);
+        accumulatedAnimationValues.put(animation.getPropertyId(), new WeakReference<>(accumulatedAnimationValue));
         return accumulatedAnimationValue;
     }
 
+    void remove(int propertyId) {
+        accumulatedAnimationValues.remove(propertyId);
+    }
+
+    void clear() {
+        accumulatedAnimationValues.clear();
+    }
 }
@@ -19,6 +19,8 @@ import android.animation.TypeEvaluator
 import android.graphics.Path
 import android.util.Property
 import at.wirecube.additiveanimations.additive_animator.animation_set.AnimationState
+import at.wirecube.additiveanimations.additive_core.AdditiveLayer
+import at.wirecube.additiveanimations.additive_core.PropertyRegistry
 import at.wirecube.additiveanimations.helper.SpringSolver
 import at.wirecube.additiveanimations.helper.evaluators.PathEvaluator
 
@@ -26,23 +28,52 @@ import at.wirecube.additiveanimations.helper.evaluators.PathEvaluator
  * This class is public for subclasses of AdditiveAnimator only, and should not be used outside of that.
  */
 class AdditiveAnimation<T: Any> private constructor(
-    val target: T,
-    val property: Property<T, Float>?,
+    target: T,
+    property: Property<T, Float>?,
     startValue: Float,
     targetValue: Float,
-    private val tag: String,
-    val path: Path?,
-    private val pathMode: PathEvaluator.PathMode?,
-    private val sharedPathEvaluator: PathEvaluator?,
-) {
+    tag: String,
+    path: Path?,
+    pathMode: PathEvaluator.PathMode?,
+    sharedPathEvaluator: PathEvaluator?,
+) : AdditiveLayer.ValueSource {
+    // Only null while the animation is recycled, see AdditiveAnimationPool.
+    private var _target: T? = target
+
+    val target: T
+        get() = _target ?: throw IllegalStateException("This animation has been recycled and must not be used anymore.")
+
+    var property: Property<T, Float>? = property
+        private set
+
+    private var tag: String = tag
+
+    var path: Path? = path
+        private set
+
+    private var pathMode: PathEvaluator.PathMode? = pathMode
+
+    private var sharedPathEvaluator: PathEvaluator? = sharedPathEvaluator
+
     var startValue: Float = startValue
         set(value) {
             field = value
+            springSolver = null // the solver's coefficients depend on the start value
         }
 
     var targetValue: Float = targetValue
         set(value) {
             field = value
+            springSolver = null // the solver's coefficients depend on the target value
+        }
+
+    /**
+     * The velocity (in units per second) a spring animation starts with. Used to continue the motion of the springs it replaces.
+     */
+    var initialVelocity: Float = 0f
+        set(value) {
+            field = value
+            springSolver = null // the solver's coefficients depend on the initial velocity
         }
     /**
      * The preferred constructor to use when animating properties. If you use this constructor, you
@@ -104,7 +135,13 @@ class AdditiveAnimation<T: Any> private constructor(
         targetValue = evaluateAt(1f)
     }
 
-    private val hashCode: Int = tag.hashCode() * ((2 shl 17) - 1) + target.hashCode()
+    /**
+     * The ID of the animated property, see [PropertyRegistry]. Two animations of the same target with the same ID animate the same property.
+     */
+    var propertyId: Int = PropertyRegistry.idFor(tag)
+        private set
+
+    private var hashCode: Int = propertyId * ((2 shl 17) - 1) + target.hashCode()
 
     var customTypeEvaluator: TypeEvaluator<Float>? = null
 
@@ -121,13 +158,15 @@ class AdditiveAnimation<T: Any> private constructor(
      *
      * Setting this replaces any previous timing (interpolated or spring).
      */
-    var timing: AnimationTiming = AnimationTiming.Interpolated(customInterpolator = null)
+    var timing: AnimationTiming = DEFAULT_TIMING
         set(value) {
             field = value
             springSolver = null // reset solver so it gets re-created with new timing
         }
 
+    // Created on the first frame of a spring animation and reused for all following frames.
     private var springSolver: SpringSolver? = null
+    private var springSettlingDurationSeconds: Float = 0f
 
     /**
      * Determines if the `targetValue` is a 'by' value. If it is, the actual target value will be computed when the animation starts
@@ -155,14 +194,15 @@ class AdditiveAnimation<T: Any> private constructor(
     val springSettlingDurationMs: Long
         get() = (timing as? AnimationTiming.Spring)?.settlingDurationMs() ?: -1
 
-    fun evaluateAt(progress: Float): Float {
+    override fun evaluateAt(progress: Float): Float {
         return when (val currentTiming = timing) {
             // Spring-based timing: progress is a linear time fraction over the settling duration.
             is AnimationTiming.Spring -> {
-                val solver = springSolver ?: currentTiming.createSolver(startValue, targetValue)
-                val settlingDurationSeconds = currentTiming.settlingDurationMs() / 1000f
-                val elapsedSeconds = progress * settlingDurationSeconds
-                solver.solve(elapsedSeconds)
+                val solver = springSolver ?: currentTiming.createSolver(startValue, targetValue, initialVelocity).also {
+                    springSolver = it
+                    springSettlingDurationSeconds = currentTiming.settlingDurationMs() / 1000f
+                }
+                solver.solve(progress * springSettlingDurationSeconds)
             }
             // Per-animation custom interpolator: remap progress, then evaluate.
             is AnimationTiming.Interpolated -> {
@@ -172,7 +212,48 @@ class AdditiveAnimation<T: Any> private constructor(
         }
     }
 
+    /**
+     * Returns the velocity (in units per second) of a spring animation at the given progress, or 0 for all other timings.
+     */
+    fun getVelocityAt(progress: Float): Float {
+        if (timing !is AnimationTiming.Spring) {
+            return 0f
+        }
+        val solver = springSolver ?: return initialVelocity
+        return solver.velocity(progress * springSettlingDurationSeconds)
+    }
+
+    override fun isSettledAt(progress: Float): Boolean {
+        if (timing !is AnimationTiming.Spring) {
+            return false
+        }
+        // The solver is created on the first frame, before that the spring can't have settled.
+        val solver = springSolver ?: return false
+        return solver.isSettled(
+            progress * springSettlingDurationSeconds,
+            SpringSolver.DEFAULT_SETTLING_THRESHOLD,
+            SETTLED_VELOCITY_THRESHOLD,
+        )
+    }
+
+    override fun isLinear(): Boolean {
+        val currentTiming = timing
+        return path == null && customTypeEvaluator == null &&
+            currentTiming is AnimationTiming.Interpolated && currentTiming.customInterpolator == null
+    }
+
+    /**
+     * True if the value of this animation never changes, because it starts at its target and isn't moving.
+     * Only meaningful once the start value has been determined, i.e. after the animation has started.
+     */
+    fun isStationary(): Boolean {
+        return path == null && customTypeEvaluator == null && startValue == targetValue && initialVelocity == 0f
+    }
+
     private fun evaluateValue(progress: Float): Float {
+        val path = path
+        val sharedPathEvaluator = sharedPathEvaluator
+        val pathMode = pathMode
         if (path != null && sharedPathEvaluator != null && pathMode != null) {
             return sharedPathEvaluator.evaluate(progress, pathMode, path)
         }
@@ -186,7 +267,73 @@ class AdditiveAnimation<T: Any> private constructor(
 
     fun getTag(): String = tag
 
+    /**
+     * Set for animations that were created by the builder methods of [BaseAdditiveAnimator] and are never handed out to user code.
+     * Only those can be recycled when object pooling is enabled.
+     * This is for internal use only.
+     */
+    var isPoolable: Boolean = false
+
+    /**
+     * True while this animation sits in the object pool. Recycled animations must not be used until they are reinitialized.
+     */
+    var isRecycled: Boolean = false
+        private set
+
+    /**
+     * Resets all state of this animation and drops its references to the target and property.
+     * This is for internal use only, see [BaseAdditiveAnimator.setObjectPoolingEnabled].
+     */
+    fun recycle() {
+        check(isPoolable) { "Only animations created by AdditiveAnimator can be recycled." }
+        check(!isRecycled) { "This animation has already been recycled." }
+        _target = null
+        property = null
+        path = null
+        pathMode = null
+        sharedPathEvaluator = null
+        customTypeEvaluator = null
+        accumulatedValue = null
+        associatedAnimationState = null
+        timing = DEFAULT_TIMING
+        isBy = false
+        byValue = 0f
+        startValue = 0f
+        targetValue = 0f
+        initialVelocity = 0f
+        isRecycled = true
+    }
+
+    /**
+     * Reinitializes a recycled animation, as if it had been created with the constructor taking the same parameters.
+     * This is for internal use only, see [BaseAdditiveAnimator.setObjectPoolingEnabled].
+     */
+    fun reuse(
+        target: T,
+        property: Property<T, Float>,
+        startValue: Float,
+        targetValue: Float,
+        path: Path?,
+        pathMode: PathEvaluator.PathMode?,
+        sharedEvaluator: PathEvaluator?,
+    ) {
+        check(isRecycled) { "Only recycled animations can be reused." }
+        _target = target
+        this.property = property
+        tag = property.name
+        this.path = path
+        this.pathMode = pathMode
+        sharedPathEvaluator = sharedEvaluator
+        propertyId = PropertyRegistry.idFor(tag)
+        hashCode = propertyId * ((2 shl 17) - 1) + target.hashCode()
+        this.startValue = startValue
+        this.targetValue = if (path != null) evaluateAt(1f) else targetValue
+        isRecycled = false
+    }
+
     fun cloneWithTarget(target: T, startValue: Float): AdditiveAnimation<T> {
+        val property = property
+        val path = path
         val animation = if (property != null) {
             if (path != null) {
                 AdditiveAnimation(target, property, startValue, path, pathMode!!, sharedPathEvaluator!!)
@@ -200,32 +347,53 @@ class AdditiveAnimation<T: Any> private constructor(
                 AdditiveAnimation(target, tag, startValue, targetValue)
             }
         }
-        if (isBy) {
-            animation.isBy = true
-            animation.byValue = byValue
-            animation.targetValue = startValue + animation.byValue
-        }
-        val currentTiming = timing
-        if (currentTiming != null) {
-            animation.timing = currentTiming
-        }
-        val currentEvaluator = customTypeEvaluator
-        if (currentEvaluator != null) {
-            animation.customTypeEvaluator = currentEvaluator
-        }
-        val currentState = associatedAnimationState
-        if (currentState != null) {
-            animation.associatedAnimationState = currentState
-        }
+        animation.copyOptionsFrom(this)
         return animation
     }
 
+    /**
+     * Reinitializes this recycled animation as if it had been created by [cloneWithTarget] of `template`.
+     * This is for internal use only, see [BaseAdditiveAnimator.setObjectPoolingEnabled].
+     */
+    fun reuseAsClone(template: AdditiveAnimation<T>, target: T, startValue: Float) {
+        reuse(
+            target,
+            template.property!!,
+            startValue,
+            template.targetValue,
+            template.path,
+            template.pathMode,
+            template.sharedPathEvaluator,
+        )
+        copyOptionsFrom(template)
+    }
+
+    private fun copyOptionsFrom(other: AdditiveAnimation<T>) {
+        if (other.isBy) {
+            isBy = true
+            byValue = other.byValue
+            targetValue = startValue + byValue
+        }
+        timing = other.timing
+        customTypeEvaluator = other.customTypeEvaluator
+        associatedAnimationState = other.associatedAnimationState
+    }
+
     override fun hashCode(): Int = hashCode
 
+    private companion object {
+        // Slower than this, a spring moves less than DEFAULT_SETTLING_THRESHOLD of its distance within a frame at 60 fps,
+        // so nobody can tell it is still moving.
+        const val SETTLED_VELOCITY_THRESHOLD = SpringSolver.DEFAULT_SETTLING_THRESHOLD * 60f
+
+        // Interpolated timing is immutable, so all animations without a custom timing can share one instance.
+        val DEFAULT_TIMING = AnimationTiming.Interpolated(customInterpolator = null)
+    }
+
     override fun equals(other: Any?): Boolean {
         if (this === other) return true
         if (other !is AdditiveAnimation<*>) return false
-        return other.tag.hashCode() == tag.hashCode() && other.target === target
+        return other.propertyId == propertyId && other._target === _target
     }
 }
 
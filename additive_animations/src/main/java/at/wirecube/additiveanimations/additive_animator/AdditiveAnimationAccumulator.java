@@ -17,104 +17,336 @@
 package at.wirecube.additiveanimations.additive_animator;
 
 import android.animation.Animator;
-import android.animation.AnimatorListenerAdapter;
+import android.animation.TimeInterpolator;
 import android.animation.ValueAnimator;
+import android.os.Build;
 import android.view.animation.LinearInterpolator;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import at.wirecube.additiveanimations.additive_animator.clock.ChoreographerFrameClock;
+import at.wirecube.additiveanimations.additive_core.AdditiveLayer;
+import at.wirecube.additiveanimations.additive_core.AnimationPlayback;
+import at.wirecube.additiveanimations.additive_core.FrameDriver;
+import at.wirecube.additiveanimations.additive_core.PropertyIdMap;
+
 /**
- * This is the class that actually runs the ValueAnimator and adds the delta of each animation to its accumulator.
+ * Connects an {@link AdditiveLayer} and its {@link AnimationPlayback} from the platform-neutral core to the Android world:
+ * it keeps track of the animated targets, informs the {@link RunningAnimationsManager}s and calls the listeners
+ * that were added via the public API.
+ * All accumulators are ticked by the shared {@link FrameDriver}.
  */
-public class AdditiveAnimationAccumulator {
+public class AdditiveAnimationAccumulator implements FrameDriver.Client {
 
-    // Exists only for performance reasons to avoid map lookups
-    private static final class AdditiveAnimationWrapper<T> {
-        private final AdditiveAnimation<T> animation;
-        private float previousValue;
+    private final AdditiveLayer<AdditiveAnimation, AccumulatedAnimationValue> mLayer;
+    // keyed by identity, so targets which are equal to each other (e.g. data classes) don't share their entries
+    private final Map<Object, TargetEntries> mAnimationsPerObject = new IdentityHashMap<>();
+    // The ValueAnimator is never started. It only holds the timing configuration and the listeners added via the public API,
+    // the actual frames are driven by the shared FrameDriver.
+    private ValueAnimator mAnimator = null;
+    private List<ValueAnimator.AnimatorUpdateListener> mUpdateListeners = null;
+    private boolean mHasInformedStateManagerAboutAnimationStart = false;
+    private BaseAdditiveAnimator mAdditiveAnimator;
+    private final AdditiveLayer.Applier<AccumulatedAnimationValue> mApplier;
+
+    // Timing state, captured from mAnimator when start() is called:
+    private final AnimationPlayback mPlayback = new AnimationPlayback();
+    private boolean mIsRunning = false;
+    private boolean mHasNotifiedStartListeners = false;
+    private float mDurationScale = 1f;
+    private TimeInterpolator mInterpolator = null;
+    private boolean mIsSpringTimed = false;
+    // Staggered animations (see BaseAdditiveAnimator.targets()) use one group per target, each starting mStagger ms after the previous one.
+    private long mStagger = 0;
+    private int mGroupCount = 1;
+    private float[] mGroupProgress = null;
+    // the iteration fraction of every group, only used to check whether staggered springs have settled
+    private float[] mGroupFractions = null;
+
+    // Increases with every accumulator that starts, so the oldest running layers can be found when collapsing layers.
+    private static long sStartSequence = 0;
+
+    // Springs settle at roughly 70-95% of their estimated settling duration.
+    private static final float MIN_SETTLED_FRACTION = 0.5f;
+    private long mStartSequence = 0;
+
+    // Captured on creation, so that toggling object pooling never affects accumulators that are already in use.
+    private final boolean mIsPooled;
+    private boolean mIsRecycled = false;
 
-        AdditiveAnimationWrapper(AdditiveAnimation<T> animation) {
-            this.animation = animation;
-            this.previousValue = 0f;
+    AdditiveAnimationAccumulator(BaseAdditiveAnimator additiveAnimator) {
+        mLayer = new AdditiveLayer<>(BaseAdditiveAnimator.getDefaultLayerStorage());
+        mAnimator = ValueAnimator.ofFloat(0f, 1f);
+        mAdditiveAnimator = additiveAnimator;
+        // created once, so committing a frame doesn't allocate
+        mApplier = changedValues -> mAdditiveAnimator.applyChanges(changedValues);
+        mIsPooled = AdditiveAnimationPool.isEnabled();
+        if (mIsPooled) {
+            mLayer.setEntryPool(AdditiveAnimationPool.sEntries);
         }
+    }
 
-        @Override
-        public int hashCode() {
-            return animation.hashCode();
+    /**
+     * Starts the animation using the shared {@link FrameDriver}.
+     * Mirrors the behaviour of {@link ValueAnimator#start()}: without a start delay, the start listeners are called
+     * and the first frame is applied synchronously.
+     */
+    void start() {
+        if (mIsRunning) {
+            return;
         }
+        checkNotRecycled();
+        // respect the "animator duration scale" developer setting, just like ValueAnimator does:
+        mDurationScale = Build.VERSION.SDK_INT >= Build.VERSION_CODES.O ? ValueAnimator.getDurationScale() : 1f;
+        mPlayback.configure(
+            (long) (mAnimator.getStartDelay() * mDurationScale),
+            (long) (mAnimator.getDuration() * mDurationScale),
+            mAnimator.getRepeatCount(),
+            mAnimator.getRepeatMode()
+        );
+        mPlayback.setStagger((long) (mStagger * mDurationScale), mGroupCount);
+        mInterpolator = mAnimator.getInterpolator();
+        if (mGroupProgress != null) {
+            // only the progress of the groups that are running is updated in each frame, see accumulateCurrentFrame()
+            Arrays.fill(mGroupProgress, mInterpolator != null ? mInterpolator.getInterpolation(0f) : 0f);
+        }
+        mIsRunning = true;
+        if (mPlayback.getStartDelay() <= 0) {
+            notifyStartListeners();
+            if (!mIsRunning) {
+                return;
+            }
+            if (canFinishImmediately()) {
+                // Nothing changes over time, so the end values are applied right away instead of scheduling any frames.
+                mPlayback.finish();
+                accumulateCurrentFrame();
+                commitFrame();
+                finishFrame();
+                return;
+            }
+            accumulateCurrentFrame();
+            commitFrame();
+            // ValueAnimator.start() also dispatches the first frame to the update listeners right away
+            if (mUpdateListeners != null) {
+                notifyUpdateListeners(mPlayback.getOverallFraction());
+            }
+        }
+        FrameDriver frameDriver = FrameDriver.getInstance();
+        if (frameDriver.getFrameClock() == null) {
+            frameDriver.setFrameClock(new ChoreographerFrameClock());
+        }
+        frameDriver.add(this);
+    }
 
-        @Override
-        public boolean equals(Object obj) {
-            if (this == obj) {
-                return true;
+    /**
+     * Zero duration animations end in their first frame, just like with ValueAnimator. Animations which don't change any values
+     * (e.g. when restoring a state that is already shown) can end right away as well, unless someone is listening to their progress.
+     * Staggered targets start in later frames, so their animations never end right away.
+     * Must only be called once the start values have been determined.
+     */
+    private boolean canFinishImmediately() {
+        if (mLayer.isEmpty() || mPlayback.getRepeatCount() == AnimationPlayback.INFINITE || mPlayback.getStaggerSpan() != 0) {
+            return false;
+        }
+        if (!mIsSpringTimed && mPlayback.getDuration() == 0) {
+            return true;
+        }
+        if (mPlayback.getRepeatCount() != 0 || mUpdateListeners != null) {
+            return false;
+        }
+        List<AdditiveLayer.Entry<AdditiveAnimation, AccumulatedAnimationValue>> entries = mLayer.getEntries();
+        for (int i = 0; i < entries.size(); i++) {
+            if (!entries.get(i).source.isStationary()) {
+                return false;
             }
-            return animation.equals(((AdditiveAnimationWrapper) obj).animation);
         }
+        return true;
     }
 
-    private List<AdditiveAnimationWrapper> mAnimationWrappers = new ArrayList<>();
-    private Map<Object, Set<AdditiveAnimationWrapper>> mAnimationsPerObject = new HashMap<>();
-    private ValueAnimator mAnimator = null;
-    private boolean mHasInformedStateManagerAboutAnimationStart = false;
-    private BaseAdditiveAnimator mAdditiveAnimator;
+    @Override
+    public boolean isRunning() {
+        return mIsRunning;
+    }
 
-    AdditiveAnimationAccumulator(BaseAdditiveAnimator additiveAnimator) {
-        mAnimator = ValueAnimator.ofFloat(0f, 1f);
-        mAdditiveAnimator = additiveAnimator;
-        // it's better not to allocate once every frame, so we just create the list once and then clear() it.
-        final List<AccumulatedAnimationValue> accumulatedAnimationValues = new ArrayList<>();
-        mAnimator.addUpdateListener(valueAnimator -> {
-            if (!mHasInformedStateManagerAboutAnimationStart) {
-                notifyStateManagerAboutAnimationStartIfNeeded();
-            }
-            for (AdditiveAnimationWrapper animationWrapper : mAnimationWrappers) {
-                AdditiveAnimation animation = animationWrapper.animation;
-                AccumulatedAnimationValue tempProperties = animation.getAccumulatedValue();
-                tempProperties.addDelta(getDelta(animationWrapper, valueAnimator.getAnimatedFraction()));
-                accumulatedAnimationValues.add(tempProperties);
+    @Override
+    public boolean doFrame(long frameTimeMs) {
+        if (mPlayback.isInStartDelay(frameTimeMs)) {
+            return false;
+        }
+        if (!mHasNotifiedStartListeners) {
+            notifyStartListeners();
+            if (!mIsRunning) {
+                // a start listener cancelled the animation
+                return false;
             }
+        }
+        if (mPlayback.update(frameTimeMs)) {
+            notifyRepeatListeners();
+        }
+        // settlingDurationMs() is a conservative estimate, most springs come to rest well before it has passed.
+        // Checking costs about as much as evaluating the springs, so we only start once they are likely to have settled.
+        // With a stagger, the last group is the last one to settle, so the check only starts once that one is close.
+        int lastGroup = mGroupCount - 1;
+        if (mIsSpringTimed && !mPlayback.isFinished() && mPlayback.isInLastForwardIteration(lastGroup) &&
+            mPlayback.getIterationFraction(lastGroup) >= MIN_SETTLED_FRACTION && isLayerSettled()) {
+            // Skip the remaining frames: this frame applies the exact end values and the accumulator ends right after it.
+            mPlayback.finish();
+        }
+        accumulateCurrentFrame();
+        return true;
+    }
+
+    private boolean isLayerSettled() {
+        if (mGroupCount == 1) {
+            return mLayer.isSettledAt(mPlayback.getIterationFraction());
+        }
+        if (mGroupFractions == null) {
+            mGroupFractions = new float[mGroupCount];
+        }
+        for (int group = 0; group < mGroupCount; group++) {
+            mGroupFractions[group] = mPlayback.getIterationFraction(group);
+        }
+        return mLayer.isSettledAt(mGroupFractions);
+    }
 
-            /*
-             * TODO: is there some way to figure out whether or not to apply the changes?
-             * Only the very last running accumulator would need to apply the changes, since the
-             * accumulation happens inside the accumulatedAnimationValues.
-             * This would bring a big performance gain in that the property setters would not need to
-             * be called for every running animation, but only for the final accumulated value.
-             * Unfortunately, it's really hard to gather a list of all accumulated values that need
-             * to be set in each frame and to figure out when the last animator is done.
-             */
-            mAdditiveAnimator.applyChanges(accumulatedAnimationValues);
-
-            // clear() does not resize the underlying elementData memory, so each subsequent frame will be able to reuse the previously allocated slots.
-            accumulatedAnimationValues.clear();
-        });
-
-        mAnimator.addListener(new AnimatorListenerAdapter() {
-            boolean animationDidCancel = false;
-
-            @Override
-            public void onAnimationCancel(Animator animation) {
-                animationDidCancel = true;
+    private void accumulateCurrentFrame() {
+        if (mGroupCount == 1) {
+            float fraction = mPlayback.getIterationFraction();
+            mLayer.accumulate(mInterpolator != null ? mInterpolator.getInterpolation(fraction) : fraction);
+            return;
+        }
+        // a single pass over the groups, so every target's fraction is only interpolated once per frame.
+        // The other groups either haven't started yet or have already ended, so their progress doesn't change.
+        int lastGroup = mPlayback.getLastActiveGroup();
+        for (int group = mPlayback.getFirstActiveGroup(); group <= lastGroup; group++) {
+            float fraction = mPlayback.getIterationFraction(group);
+            mGroupProgress[group] = mInterpolator != null ? mInterpolator.getInterpolation(fraction) : fraction;
+        }
+        mLayer.accumulate(mGroupProgress);
+    }
+
+    /**
+     * Lets {@code groupCount} groups of animations share this accumulator, each starting {@code stagger} ms after the previous one.
+     * Must be called before any animations are added.
+     */
+    void setStagger(long stagger, int groupCount) {
+        mStagger = stagger;
+        mGroupCount = groupCount;
+        mGroupProgress = groupCount > 1 ? new float[groupCount] : null;
+        mGroupFractions = null;
+    }
+
+    long getStaggerSpan() {
+        return mStagger * (mGroupCount - 1);
+    }
+
+    @Override
+    public void commitFrame() {
+        mLayer.commit(mApplier);
+    }
+
+    @Override
+    public void finishFrame() {
+        if (mUpdateListeners != null) {
+            notifyUpdateListeners(mPlayback.getOverallFraction());
+        }
+        if (mPlayback.isFinished() && mIsRunning) {
+            end(false);
+        }
+    }
+
+    private void end(boolean didCancel) {
+        if (!mIsRunning) {
+            return;
+        }
+        // the FrameDriver drops accumulators which are no longer running in its next frame
+        mIsRunning = false;
+        for (Object v : mAnimationsPerObject.keySet()) {
+            RunningAnimationsManager.from(v).onAnimationAccumulatorEnd(AdditiveAnimationAccumulator.this, didCancel);
+        }
+        List<Animator.AnimatorListener> listeners = copyListeners();
+        if (listeners != null) {
+            for (Animator.AnimatorListener listener : listeners) {
+                listener.onAnimationEnd(mAnimator);
             }
+        }
+        recycleIfPooled();
+    }
 
-            @Override
-            public void onAnimationEnd(Animator animation) {
-                for (Object v : mAnimationsPerObject.keySet()) {
-                    RunningAnimationsManager.from(v).onAnimationAccumulatorEnd(AdditiveAnimationAccumulator.this, animationDidCancel);
-                }
+    /**
+     * Once the accumulator has ended and everybody has been notified, nothing can reach its animations anymore,
+     * so they are handed back to the pool.
+     */
+    private void recycleIfPooled() {
+        if (!mIsPooled) {
+            return;
+        }
+        List<AdditiveLayer.Entry<AdditiveAnimation, AccumulatedAnimationValue>> entries = mLayer.getEntries();
+        for (int i = 0; i < entries.size(); i++) {
+            AdditiveAnimationPool.recycle(entries.get(i).source);
+        }
+        mLayer.clear();
+        mAnimationsPerObject.clear();
+        mIsRecycled = true;
+    }
+
+    private void checkNotRecycled() {
+        if (mIsRecycled) {
+            throw new IllegalStateException("This animator has already finished and its animations have been recycled. " +
+                "Animators cannot be restarted while object pooling is enabled.");
+        }
+    }
+
+    private void notifyStartListeners() {
+        mHasNotifiedStartListeners = true;
+        notifyStateManagerAboutAnimationStartIfNeeded();
+        List<Animator.AnimatorListener> listeners = copyListeners();
+        if (listeners != null) {
+            for (Animator.AnimatorListener listener : listeners) {
+                listener.onAnimationStart(mAnimator);
             }
+        }
+    }
 
-            @Override
-            public void onAnimationStart(Animator animation) {
-                notifyStateManagerAboutAnimationStartIfNeeded();
+    private void notifyRepeatListeners() {
+        List<Animator.AnimatorListener> listeners = copyListeners();
+        if (listeners != null) {
+            for (Animator.AnimatorListener listener : listeners) {
+                listener.onAnimationRepeat(mAnimator);
             }
-        });
+        }
+    }
+
+    private void notifyUpdateListeners(float overallFraction) {
+        // Keep the ValueAnimator in sync so that listeners can still query getAnimatedFraction() and getAnimatedValue().
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP_MR1) {
+            mAnimator.setCurrentFraction(overallFraction);
+        }
+        for (int i = 0; i < mUpdateListeners.size(); i++) {
+            mUpdateListeners.get(i).onAnimationUpdate(mAnimator);
+        }
+    }
+
+    /**
+     * Listeners might add or remove other listeners while being notified, so we always iterate over a copy (just like ValueAnimator does).
+     */
+    private List<Animator.AnimatorListener> copyListeners() {
+        List<Animator.AnimatorListener> listeners = mAnimator.getListeners();
+        return listeners == null ? null : new ArrayList<>(listeners);
+    }
+
+    void addUpdateListener(ValueAnimator.AnimatorUpdateListener listener) {
+        if (mUpdateListeners == null) {
+            mUpdateListeners = new ArrayList<>(1);
+        }
+        mUpdateListeners.add(listener);
     }
 
     private void notifyStateManagerAboutAnimationStartIfNeeded() {
@@ -122,6 +354,7 @@ public class AdditiveAnimationAccumulator {
             return;
         }
         mHasInformedStateManagerAboutAnimationStart = true;
+        mStartSequence = ++sStartSequence;
 
         // If any animation uses spring timing, configure the ValueAnimator accordingly.
         // Since all animations in one accumulator share the same timing, we just check the first one.
@@ -131,20 +364,27 @@ public class AdditiveAnimationAccumulator {
         for (Object v : animationTargets) {
             RunningAnimationsManager manager = RunningAnimationsManager.from(v);
             manager.onAnimationAccumulatorStart(AdditiveAnimationAccumulator.this);
-            for (AdditiveAnimationWrapper wrapper : getAnimationWrappers(v)) {
-                manager.prepareAnimationStart(wrapper.animation);
-                wrapper.previousValue = wrapper.animation.getStartValue();
+            for (AdditiveLayer.Entry<AdditiveAnimation, AccumulatedAnimationValue> entry : getAnimationEntries(v)) {
+                AdditiveAnimation animation = entry.source;
+                manager.prepareAnimationStart(this, animation);
+                mLayer.bind(entry, animation.getAccumulatedValue(), animation.getStartValue());
             }
         }
     }
 
-    void addAnimation(AdditiveAnimation animation) {
-        // the correct value will be set when the animation actually starts instead of when we add the animation.
-        AdditiveAnimationWrapper wrapper = new AdditiveAnimationWrapper(animation);
-        mAnimationWrappers.add(wrapper);
-
-        // TODO: speed this up
-        addToAnimationMap(wrapper);
+    void addAnimation(AdditiveAnimation animation, int group) {
+        checkNotRecycled();
+        if (animation.isRecycled()) {
+            throw new IllegalStateException("Cannot add an animation that has already been recycled.");
+        }
+        // the correct value will be bound when the animation actually starts instead of when we add the animation.
+        AdditiveLayer.Entry<AdditiveAnimation, AccumulatedAnimationValue> entry = mLayer.add(animation, group);
+        TargetEntries entries = mAnimationsPerObject.get(animation.getTarget());
+        if (entries == null) {
+            entries = new TargetEntries();
+            mAnimationsPerObject.put(animation.getTarget(), entries);
+        }
+        entries.add(entry);
     }
 
     /**
@@ -154,105 +394,121 @@ public class AdditiveAnimationAccumulator {
      * the spring solver can convert to elapsed seconds.
      */
     private void configureForSpringTimingIfNeeded() {
-        if (mAnimationWrappers.isEmpty()) return;
+        if (mLayer.isEmpty()) return;
 
         // All animations share the same timing, so check the first one.
-        AdditiveAnimation firstAnimation = mAnimationWrappers.get(0).animation;
+        AdditiveAnimation firstAnimation = mLayer.getEntries().get(0).source;
         long settlingDuration = firstAnimation.getSpringSettlingDurationMs();
 
         if (settlingDuration > 0) {
             mAnimator.setInterpolator(new LinearInterpolator());
             mAnimator.setDuration(settlingDuration);
+            mInterpolator = null;
+            mPlayback.setDuration((long) (settlingDuration * mDurationScale));
+            mIsSpringTimed = true;
         }
     }
 
     /*
      * Returns true if this removed all animations from the object, false if there are still more animations running.
      */
-    boolean removeAnimation(String animatedPropertyName, Object v) {
-        removeAnimationFromTarget(v, animatedPropertyName);
-        Collection c = mAnimationsPerObject.get(v);
-        return c == null || c.size() == 0;
-    }
-
-    private void removeTarget(Object v) {
-        Set<String> animatedValues = collectAnimatedProperties(v);
-        if (animatedValues == null) {
-            return;
+    boolean removeAnimation(int propertyId, Object v) {
+        TargetEntries entries = mAnimationsPerObject.get(v);
+        if (entries == null) {
+            return true;
         }
-        if (animatedValues.size() == mAnimationWrappers.size()) {
-            cancel();
-        } else {
-            for (String animatedValue : animatedValues) {
-                removeAnimationFromTarget(v, animatedValue);
-            }
+        entries.remove(propertyId, mLayer);
+        if (entries.isEmpty()) {
+            mAnimationsPerObject.remove(v);
+            return true;
         }
+        return false;
     }
 
-    private Set<String> collectAnimatedProperties(Object v) {
-        Collection<AdditiveAnimationWrapper> wrappers = mAnimationsPerObject.get(v);
-        if (wrappers == null) {
-            return new HashSet<>();
-        }
-        Set<String> properties = new HashSet<>(2);
-        for (AdditiveAnimationWrapper wrapper : wrappers) {
-            properties.add(wrapper.animation.getTag());
+    /**
+     * Returns 0 if the accumulator hasn't started yet, otherwise a number which is larger for accumulators that started later.
+     */
+    long getStartSequence() {
+        return mStartSequence;
+    }
+
+    int getAnimationCount(int propertyId, Object v) {
+        TargetEntries entries = mAnimationsPerObject.get(v);
+        return entries == null ? 0 : entries.count(propertyId);
+    }
+
+    boolean hasAnimationsOf(Object v) {
+        return mAnimationsPerObject.containsKey(v);
+    }
+
+    /**
+     * Removes the animations of the given property from the object, just like {@link #removeAnimation(int, Object)},
+     * and returns the delta they would still have added until they end.
+     */
+    float collapseAnimation(int propertyId, Object v) {
+        TargetEntries entries = mAnimationsPerObject.get(v);
+        if (entries == null) {
+            return 0f;
         }
-        return properties;
+        float remainingDelta = entries.getRemainingDelta(propertyId, mLayer);
+        removeAnimation(propertyId, v);
+        return remainingDelta;
     }
 
     /**
-     * Removes the animation with the given name from the given object.
+     * Removes the spring-timed animations of the given property from the object and returns the sum of their current velocities
+     * (see {@link AdditiveAnimation#getVelocityAt(float)}). Animations with other timings keep running.
      */
-    private void removeAnimationFromTarget(Object v, String additiveAnimationName) {
-        AdditiveAnimationWrapper animationToRemove = null;
-        for (AdditiveAnimationWrapper anim : getAnimationWrappers(v)) {
-            if (anim.animation.getTag().equals(additiveAnimationName)) {
-                animationToRemove = anim;
-                break;
-            }
+    float retargetAnimation(int propertyId, Object v) {
+        TargetEntries entries = mAnimationsPerObject.get(v);
+        if (entries == null) {
+            return 0f;
         }
-        if (animationToRemove != null) {
-            mAnimationWrappers.remove(animationToRemove);
-            removeFromAnimationMap(animationToRemove);
+        // the velocity of the spring at the last frame, springs are evaluated without interpolator
+        float velocity = entries.removeSprings(propertyId, mPlayback, mLayer);
+        if (entries.isEmpty()) {
+            mAnimationsPerObject.remove(v);
         }
+        return velocity;
     }
 
-    private void addToAnimationMap(AdditiveAnimationWrapper wrapper) {
-        Set<AdditiveAnimationWrapper> animations = mAnimationsPerObject.get(wrapper.animation.getTarget());
-        if (animations == null) {
-            animations = new HashSet<>(1);
-            mAnimationsPerObject.put(wrapper.animation.getTarget(), animations);
-        }
-        animations.add(wrapper);
+    /**
+     * @return The delta the animations of the given property of the object will still add until they end.
+     */
+    float getRemainingDelta(int propertyId, Object v) {
+        TargetEntries entries = mAnimationsPerObject.get(v);
+        return entries == null ? 0f : entries.getRemainingDelta(propertyId, mLayer);
     }
 
-    private void removeFromAnimationMap(AdditiveAnimationWrapper wrapper) {
-        Set<AdditiveAnimationWrapper> animations = mAnimationsPerObject.get(wrapper.animation.getTarget());
-        if (animations == null) {
+    private void removeTarget(Object v) {
+        TargetEntries entries = mAnimationsPerObject.get(v);
+        if (entries == null) {
             return;
         }
-        animations.remove(wrapper);
-        if (animations.size() == 0) {
-            mAnimationsPerObject.remove(wrapper.animation.getTarget());
+        if (entries.size() == mLayer.size()) {
+            cancel();
+        } else {
+            entries.removeAll(mLayer);
+            mAnimationsPerObject.remove(v);
         }
     }
 
     Collection<AdditiveAnimation> getAnimations(Object v) {
-        Collection<AdditiveAnimationWrapper> wrappers = getAnimationWrappers(v);
-        List<AdditiveAnimation> animations = new ArrayList<>(wrappers.size());
-        for (AdditiveAnimationWrapper wrapper : wrappers) {
-            animations.add(wrapper.animation);
+        List<AdditiveLayer.Entry<AdditiveAnimation, AccumulatedAnimationValue>> entries = getAnimationEntries(v);
+        List<AdditiveAnimation> animations = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            animations.add(entries.get(i).source);
         }
         return animations;
     }
 
-    private Collection<AdditiveAnimationWrapper> getAnimationWrappers(Object v) {
-        Set<AdditiveAnimationWrapper> wrappers = mAnimationsPerObject.get(v);
-        if (wrappers == null) {
-            return new HashSet<>();
+    private List<AdditiveLayer.Entry<AdditiveAnimation, AccumulatedAnimationValue>> getAnimationEntries(Object v) {
+        TargetEntries entries = mAnimationsPerObject.get(v);
+        List<AdditiveLayer.Entry<AdditiveAnimation, AccumulatedAnimationValue>> result = new ArrayList<>(entries == null ? 0 : entries.size());
+        if (entries != null) {
+            entries.collect(result);
         }
-        return wrappers;
+        return result;
     }
 
     ValueAnimator getAnimator() {
@@ -260,22 +516,13 @@ public class AdditiveAnimationAccumulator {
     }
 
     Collection<AdditiveAnimation> getAnimations() {
-        Set<AdditiveAnimation> allAnimations = new HashSet<>(mAnimationWrappers.size());
-        for (AdditiveAnimationWrapper wrapper : mAnimationWrappers) {
-            allAnimations.add(wrapper.animation);
+        Set<AdditiveAnimation> allAnimations = new HashSet<>(mLayer.size());
+        for (AdditiveLayer.Entry<AdditiveAnimation, AccumulatedAnimationValue> entry : mLayer.getEntries()) {
+            allAnimations.add(entry.source);
         }
         return allAnimations;
     }
 
-    final float getDelta(AdditiveAnimationWrapper wrapper, float progress) {
-        float lastVal = wrapper.previousValue;
-        AdditiveAnimation animation = wrapper.animation;
-        float newVal = animation.evaluateAt(progress);
-        float delta = newVal - lastVal;
-        wrapper.previousValue = newVal;
-        return delta;
-    }
-
     /**
      * Remove all properties belonging to `v`.
      */
@@ -284,7 +531,158 @@ public class AdditiveAnimationAccumulator {
     }
 
     final void cancel() {
-        mAnimator.cancel();
+        if (!mIsRunning) {
+            return;
+        }
+        // Same order as ValueAnimator.cancel(): start (if it hasn't happened yet), cancel, end.
+        if (!mHasNotifiedStartListeners) {
+            notifyStartListeners();
+        }
+        List<Animator.AnimatorListener> listeners = copyListeners();
+        if (listeners != null) {
+            for (Animator.AnimatorListener listener : listeners) {
+                listener.onAnimationCancel(mAnimator);
+            }
+        }
+        end(true);
+    }
+
+    /**
+     * The entries of one target, indexed by property ID so that a property or the whole target can be cancelled
+     * without scanning the layer.
+     */
+    private static final class TargetEntries {
+        private final PropertyIdMap<AdditiveLayer.Entry<AdditiveAnimation, AccumulatedAnimationValue>> mEntriesByProperty = new PropertyIdMap<>();
+        // Further entries of properties that are animated more than once by the same animator, like `x(10).x(20)`.
+        // That's rare, so the list is only created when needed.
+        private List<AdditiveLayer.Entry<AdditiveAnimation, AccumulatedAnimationValue>> mDuplicates = null;
+
+        void add(AdditiveLayer.Entry<AdditiveAnimation, AccumulatedAnimationValue> entry) {
+            int propertyId = entry.source.getPropertyId();
+            if (mEntriesByProperty.get(propertyId) == null) {
+                mEntriesByProperty.put(propertyId, entry);
+            } else {
+                if (mDuplicates == null) {
+                    mDuplicates = new ArrayList<>(1);
+                }
+                mDuplicates.add(entry);
+            }
+        }
+
+        void remove(int propertyId, AdditiveLayer<AdditiveAnimation, AccumulatedAnimationValue> layer) {
+            AdditiveLayer.Entry<AdditiveAnimation, AccumulatedAnimationValue> entry = mEntriesByProperty.remove(propertyId);
+            if (entry == null) {
+                return;
+            }
+            layer.remove(entry);
+            if (mDuplicates != null) {
+                for (int i = mDuplicates.size() - 1; i >= 0; i--) {
+                    if (mDuplicates.get(i).source.getPropertyId() == propertyId) {
+                        layer.remove(mDuplicates.remove(i));
+                    }
+                }
+            }
+        }
+
+        int count(int propertyId) {
+            if (mEntriesByProperty.get(propertyId) == null) {
+                return 0;
+            }
+            int count = 1;
+            if (mDuplicates != null) {
+                for (int i = 0; i < mDuplicates.size(); i++) {
+                    if (mDuplicates.get(i).source.getPropertyId() == propertyId) {
+                        count++;
+                    }
+                }
+            }
+            return count;
+        }
+
+        float getRemainingDelta(int propertyId, AdditiveLayer<AdditiveAnimation, AccumulatedAnimationValue> layer) {
+            AdditiveLayer.Entry<AdditiveAnimation, AccumulatedAnimationValue> entry = mEntriesByProperty.get(propertyId);
+            if (entry == null) {
+                return 0f;
+            }
+            float remainingDelta = entry.source.evaluateAt(1f) - layer.getPreviousValue(entry);
+            if (mDuplicates != null) {
+                for (int i = 0; i < mDuplicates.size(); i++) {
+                    AdditiveLayer.Entry<AdditiveAnimation, AccumulatedAnimationValue> duplicate = mDuplicates.get(i);
+                    if (duplicate.source.getPropertyId() == propertyId) {
+                        remainingDelta += duplicate.source.evaluateAt(1f) - layer.getPreviousValue(duplicate);
+                    }
+                }
+            }
+            return remainingDelta;
+        }
+
+        /**
+         * Removes the spring-timed entries of the property and returns the sum of their velocities.
+         */
+        float removeSprings(int propertyId, AnimationPlayback playback, AdditiveLayer<AdditiveAnimation, AccumulatedAnimationValue> layer) {
+            float velocity = 0f;
+            AdditiveLayer.Entry<AdditiveAnimation, AccumulatedAnimationValue> entry = mEntriesByProperty.get(propertyId);
+            if (entry == null) {
+                return 0f;
+            }
+            if (entry.source.getTiming() instanceof AnimationTiming.Spring) {
+                velocity += entry.source.getVelocityAt(playback.getIterationFraction(entry.getGroup()));
+                mEntriesByProperty.remove(propertyId);
+                layer.remove(entry);
+            }
+            if (mDuplicates != null) {
+                for (int i = mDuplicates.size() - 1; i >= 0; i--) {
+                    AdditiveLayer.Entry<AdditiveAnimation, AccumulatedAnimationValue> duplicate = mDuplicates.get(i);
+                    if (duplicate.source.getPropertyId() != propertyId) {
+                        continue;
+                    }
+                    if (duplicate.source.getTiming() instanceof AnimationTiming.Spring) {
+                        velocity += duplicate.source.getVelocityAt(playback.getIterationFraction(duplicate.getGroup()));
+                        layer.remove(mDuplicates.remove(i));
+                    } else if (mEntriesByProperty.get(propertyId) == null) {
+                        // a remaining animation of the property becomes its main entry
+                        mEntriesByProperty.put(propertyId, mDuplicates.remove(i));
+                    }
+                }
+            }
+            return velocity;
+        }
+
+        void removeAll(AdditiveLayer<AdditiveAnimation, AccumulatedAnimationValue> layer) {
+            for (int id = 0; id < mEntriesByProperty.capacity(); id++) {
+                AdditiveLayer.Entry<AdditiveAnimation, AccumulatedAnimationValue> entry = mEntriesByProperty.get(id);
+                if (entry != null) {
+                    layer.remove(entry);
+                }
+            }
+            mEntriesByProperty.clear();
+            if (mDuplicates != null) {
+                for (int i = 0; i < mDuplicates.size(); i++) {
+                    layer.remove(mDuplicates.get(i));
+                }
+                mDuplicates = null;
+            }
+        }
+
+        void collect(List<AdditiveLayer.Entry<AdditiveAnimation, AccumulatedAnimationValue>> result) {
+            for (int id = 0; id < mEntriesByProperty.capacity(); id++) {
+                AdditiveLayer.Entry<AdditiveAnimation, AccumulatedAnimationValue> entry = mEntriesByProperty.get(id);
+                if (entry != null) {
+                    result.add(entry);
+                }
+            }
+            if (mDuplicates != null) {
+                result.addAll(mDuplicates);
+            }
+        }
+
+        int size() {
+            return mEntriesByProperty.size() + (mDuplicates == null ? 0 : mDuplicates.size());
+        }
+
+        boolean isEmpty() {
+            return size() == 0;
+        }
     }
 
     @Override
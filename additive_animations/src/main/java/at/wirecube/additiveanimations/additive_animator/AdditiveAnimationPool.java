@@ -0,0 +1,107 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.additive_animator;
+
+import android.graphics.Path;
+import android.util.Property;
+
+import at.wirecube.additiveanimations.additive_core.AdditiveLayer;
+import at.wirecube.additiveanimations.additive_core.ObjectPool;
+import at.wirecube.additiveanimations.helper.evaluators.PathEvaluator;
+
+/**
+ * Recycles the animations and layer entries of finished accumulators when object pooling is enabled,
+ * see {@link BaseAdditiveAnimator#setObjectPoolingEnabled(boolean)}.
+ *
+ * Only animations that were created by the builder methods of {@link BaseAdditiveAnimator} are ever recycled, since those are
+ * never handed out to user code. All pools are only accessed from the main thread.
+ */
+class AdditiveAnimationPool {
+
+    static final int MAX_POOL_SIZE = 256;
+
+    private static boolean sEnabled = false;
+    private static final ObjectPool<AdditiveAnimation> sAnimations = new ObjectPool<>(MAX_POOL_SIZE);
+    static final ObjectPool<AdditiveLayer.Entry<AdditiveAnimation, AccumulatedAnimationValue>> sEntries = new ObjectPool<>(MAX_POOL_SIZE);
+
+    private AdditiveAnimationPool() {}
+
+    static boolean isEnabled() {
+        return sEnabled;
+    }
+
+    static void setEnabled(boolean enabled) {
+        sEnabled = enabled;
+        if (!enabled) {
+            sAnimations.clear();
+            sEntries.clear();
+        }
+    }
+
+    static <V> AdditiveAnimation<V> obtain(V target, Property<V, Float> property, float startValue, float targetValue) {
+        AdditiveAnimation<V> animation = sEnabled ? sAnimations.obtain() : null;
+        if (animation == null) {
+            animation = new AdditiveAnimation<>(target, property, startValue, targetValue);
+            animation.setPoolable(sEnabled);
+        } else {
+            animation.reuse(target, property, startValue, targetValue, null, null, null);
+        }
+        return animation;
+    }
+
+    static <V> AdditiveAnimation<V> obtain(V target, Property<V, Float> property, float startValue, Path path, PathEvaluator.PathMode mode, PathEvaluator sharedEvaluator) {
+        AdditiveAnimation<V> animation = sEnabled ? sAnimations.obtain() : null;
+        if (animation == null) {
+            animation = new AdditiveAnimation<>(target, property, startValue, path, mode, sharedEvaluator);
+            animation.setPoolable(sEnabled);
+        } else {
+            animation.reuse(target, property, startValue, 0f, path, mode, sharedEvaluator);
+        }
+        return animation;
+    }
+
+    /**
+     * Copies `template` to another target, see {@link AdditiveAnimation#cloneWithTarget}. The copy is poolable if the template is.
+     */
+    static <V> AdditiveAnimation<V> obtainClone(AdditiveAnimation<V> template, V target, float startValue) {
+        AdditiveAnimation<V> animation = sEnabled && template.isPoolable() && template.getProperty() != null ? sAnimations.obtain() : null;
+        if (animation == null) {
+            animation = template.cloneWithTarget(target, startValue);
+            animation.setPoolable(template.isPoolable());
+        } else {
+            animation.reuseAsClone(template, target, startValue);
+        }
+        return animation;
+    }
+
+    /**
+     * Recycles the animation if it was created by {@link #obtain} and nothing else can still reach it.
+     */
+    static void recycle(AdditiveAnimation animation) {
+        if (!sEnabled || !animation.isPoolable() || animation.isRecycled()) {
+            return;
+        }
+        AccumulatedAnimationValue accumulatedValue = animation.getAccumulatedValue();
+        if (accumulatedValue != null && accumulatedValue.animation == animation) {
+            // The accumulated value identifies its target and property by this animation and might still be used
+            // by animations of other accumulators.
+            return;
+        }
+        animation.recycle();
+        sAnimations.release(animation);
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.additive_animator;
+
+import android.animation.ValueAnimator;
+import android.os.Build;
+import android.util.Property;
+
+import at.wirecube.additiveanimations.additive_animator.clock.ChoreographerFrameClock;
+import at.wirecube.additiveanimations.additive_core.FrameDriver;
+import at.wirecube.additiveanimations.helper.FloatProperty;
+import at.wirecube.additiveanimations.helper.SpringSolver;
+
+/**
+ * Continuously moves a fixed set of properties of one target towards targets that change every frame, for example to make a
+ * view follow a finger during a drag gesture.
+ * <p>
+ * Starting a new additive animation for every touch event creates a new layer (and a new set of animation objects) for each event.
+ * A follower instead keeps the position and velocity of every property in a few float arrays and advances them with a spring
+ * in each frame, so {@link #updateTarget(float)} only stores the new target. Changing the target preserves the current velocity,
+ * which keeps the motion smooth no matter how often it is called. The memory used by a follower is constant.
+ * <p>
+ * While it is following, the follower owns its properties: running additive animations of these properties are cancelled
+ * when it starts, and you shouldn't start new ones until it has stopped. The values are set directly on the properties, so
+ * unlike {@link BaseAdditiveAnimator#onApplyChanges()} no layout is requested.
+ * Like all animators, a follower must only be used from the main thread.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * AdditiveFollower<View> follower = AdditiveFollower.of(view, View.TRANSLATION_X, View.TRANSLATION_Y).setSmoothingDuration(150);
+ * // in onTouchEvent():
+ * follower.updateTarget(event.getX(), event.getY());
+ * }</pre>
+ */
+public class AdditiveFollower<V> implements FrameDriver.Client {
+
+    private static final long DEFAULT_SMOOTHING_DURATION_MS = 300;
+    private static final float DEFAULT_SETTLING_THRESHOLD = 0.01f;
+    // the time step of the first frame after follow(), which has no previous frame to measure from
+    private static final long FIRST_FRAME_INTERVAL_MS = 16;
+
+    private final V mTarget;
+    private final Property<V, Float>[] mProperties;
+    private final float[] mTargetValues;
+    // displacement from the target at 2 * i and velocity (in units per second) at 2 * i + 1, as used by SpringSolver.step()
+    private final float[] mSpringStates;
+    private final float[] mValues;
+
+    private float mStiffness;
+    private float mDampingRatio;
+    private float mSettlingThreshold = DEFAULT_SETTLING_THRESHOLD;
+
+    private boolean mIsFollowing = false;
+    // the FrameDriver only drops clients in its next frame, so a follower that is restarted before that must not be added again
+    private boolean mIsRegistered = false;
+    private long mLastFrameTimeMs = -1;
+
+    @SafeVarargs
+    public static <V> AdditiveFollower<V> of(V target, Property<V, Float>... properties) {
+        return new AdditiveFollower<>(target, properties);
+    }
+
+    @SafeVarargs
+    public AdditiveFollower(V target, Property<V, Float>... properties) {
+        if (target == null) {
+            throw new IllegalArgumentException("The target of a follower must not be null.");
+        }
+        if (properties.length == 0) {
+            throw new IllegalArgumentException("A follower needs at least one property.");
+        }
+        mTarget = target;
+        mProperties = properties.clone();
+        mTargetValues = new float[properties.length];
+        mSpringStates = new float[properties.length * 2];
+        mValues = new float[properties.length];
+        setSmoothingDuration(DEFAULT_SMOOTHING_DURATION_MS);
+    }
+
+    /**
+     * Follows the targets with a critically damped spring (no overshoot) that settles within approximately {@code durationMs}
+     * after the last target change.
+     */
+    public AdditiveFollower<V> setSmoothingDuration(long durationMs) {
+        return setSpring(SpringSolver.stiffnessForSettlingDuration(durationMs, 1f), 1f);
+    }
+
+    /**
+     * Follows the targets with a spring of the given stiffness and damping ratio, see {@link BaseAdditiveAnimator#setSpring(float, float)}.
+     */
+    public AdditiveFollower<V> setSpring(float stiffness, float dampingRatio) {
+        if (stiffness <= 0f) {
+            throw new IllegalArgumentException("Stiffness must be > 0, got " + stiffness);
+        }
+        if (dampingRatio < 0f) {
+            throw new IllegalArgumentException("Damping ratio must be >= 0, got " + dampingRatio);
+        }
+        mStiffness = stiffness;
+        mDampingRatio = dampingRatio;
+        return this;
+    }
+
+    /**
+     * The follower stops once every property is closer than {@code threshold} to its target (and is moving slower than
+     * 60 times that per second). The values then snap to their targets. Defaults to 0.01, which is well below a pixel.
+     */
+    public AdditiveFollower<V> setSettlingThreshold(float threshold) {
+        if (threshold <= 0f) {
+            throw new IllegalArgumentException("The settling threshold must be > 0, got " + threshold);
+        }
+        mSettlingThreshold = threshold;
+        return this;
+    }
+
+    public V getTarget() {
+        return mTarget;
+    }
+
+    public void updateTarget(float target) {
+        checkValueCount(1);
+        setTargetValue(0, target);
+        follow();
+    }
+
+    public void updateTarget(float target1, float target2) {
+        checkValueCount(2);
+        setTargetValue(0, target1);
+        setTargetValue(1, target2);
+        follow();
+    }
+
+    /**
+     * Sets the new targets of all properties, in the order they were passed to the constructor.
+     * Prefer the overloads with one and two values where possible, they don't allocate an array for each call.
+     */
+    public void updateTarget(float... targets) {
+        checkValueCount(targets.length);
+        for (int i = 0; i < targets.length; i++) {
+            setTargetValue(i, targets[i]);
+        }
+        follow();
+    }
+
+    /**
+     * @return true if the follower is still moving its properties towards their targets.
+     */
+    public boolean isFollowing() {
+        return mIsFollowing;
+    }
+
+    /**
+     * Stops at the current values, without moving on to the targets.
+     */
+    public void stop() {
+        // the FrameDriver drops this client in its next frame, see doFrame()
+        mIsFollowing = false;
+    }
+
+    /**
+     * Stops and immediately applies the current targets.
+     */
+    public void finish() {
+        if (!mIsFollowing) {
+            return;
+        }
+        stop();
+        for (int i = 0; i < mProperties.length; i++) {
+            mValues[i] = mTargetValues[i];
+            BaseAdditiveAnimator.setPropertyValue(mProperties[i], mTarget, mTargetValues[i]);
+        }
+    }
+
+    private void checkValueCount(int count) {
+        if (count != mProperties.length) {
+            throw new IllegalArgumentException("Expected " + mProperties.length + " target values, got " + count + ".");
+        }
+    }
+
+    private void setTargetValue(int index, float target) {
+        if (mIsFollowing) {
+            // moving the target also moves the origin of the spring, the velocity is kept as it is
+            mSpringStates[index * 2] = mValues[index] - target;
+        }
+        mTargetValues[index] = target;
+    }
+
+    private void follow() {
+        if (mIsFollowing) {
+            return;
+        }
+        for (int i = 0; i < mProperties.length; i++) {
+            // anything that is still animating this property would fight with the follower
+            BaseAdditiveAnimator.cancelAnimation(mTarget, mProperties[i]);
+            mValues[i] = getPropertyValue(mProperties[i], mTarget);
+            mSpringStates[i * 2] = mValues[i] - mTargetValues[i];
+            mSpringStates[i * 2 + 1] = 0f;
+        }
+        mIsFollowing = true;
+        mLastFrameTimeMs = -1;
+        if (mIsRegistered) {
+            return;
+        }
+        mIsRegistered = true;
+        FrameDriver frameDriver = FrameDriver.getInstance();
+        if (frameDriver.getFrameClock() == null) {
+            frameDriver.setFrameClock(new ChoreographerFrameClock());
+        }
+        frameDriver.add(this);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return mIsRegistered;
+    }
+
+    @Override
+    public boolean doFrame(long frameTimeMs) {
+        if (!mIsFollowing) {
+            mIsRegistered = false;
+            return false;
+        }
+        // the first frame already moves the properties, so following doesn't lag behind by a frame
+        long deltaMs = mLastFrameTimeMs < 0 ? FIRST_FRAME_INTERVAL_MS : frameTimeMs - mLastFrameTimeMs;
+        // respect the "animator duration scale" developer setting, just like ValueAnimator does:
+        float durationScale = Build.VERSION.SDK_INT >= Build.VERSION_CODES.O ? ValueAnimator.getDurationScale() : 1f;
+        float deltaSeconds = deltaMs / 1000f;
+        mLastFrameTimeMs = frameTimeMs;
+        boolean isSettled = true;
+        for (int i = 0; i < mProperties.length; i++) {
+            if (durationScale > 0f) {
+                SpringSolver.step(mStiffness, mDampingRatio, mSpringStates, i * 2, deltaSeconds / durationScale);
+            } else {
+                mSpringStates[i * 2] = 0f;
+                mSpringStates[i * 2 + 1] = 0f;
+            }
+            isSettled &= Math.abs(mSpringStates[i * 2]) < mSettlingThreshold &&
+                Math.abs(mSpringStates[i * 2 + 1]) < mSettlingThreshold * 60f;
+        }
+        if (isSettled) {
+            for (int i = 0; i < mProperties.length; i++) {
+                mSpringStates[i * 2] = 0f;
+                mSpringStates[i * 2 + 1] = 0f;
+            }
+            // this frame applies the exact targets, the FrameDriver drops the follower right after it
+            mIsFollowing = false;
+            mIsRegistered = false;
+        }
+        for (int i = 0; i < mProperties.length; i++) {
+            mValues[i] = mTargetValues[i] + mSpringStates[i * 2];
+        }
+        return true;
+    }
+
+    @Override
+    public void commitFrame() {
+        for (int i = 0; i < mProperties.length; i++) {
+            BaseAdditiveAnimator.setPropertyValue(mProperties[i], mTarget, mValues[i]);
+        }
+    }
+
+    @Override
+    public void finishFrame() {}
+
+    @SuppressWarnings("unchecked")
+    private static <V> float getPropertyValue(Property<V, Float> property, V target) {
+        if (property instanceof FloatProperty) {
+            return ((FloatProperty<V>) property).getValue(target);
+        }
+        return property.get(target);
+    }
+}
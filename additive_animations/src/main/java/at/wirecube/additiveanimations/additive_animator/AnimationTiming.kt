@@ -18,7 +18,6 @@ package at.wirecube.additiveanimations.additive_animator
 
 import android.animation.TimeInterpolator
 import at.wirecube.additiveanimations.helper.SpringSolver
-import kotlin.math.ln
 import kotlin.math.sqrt
 
 /**
@@ -73,25 +72,15 @@ sealed class AnimationTiming {
          */
         @JvmOverloads
         fun settlingDurationMs(threshold: Float = SpringSolver.DEFAULT_SETTLING_THRESHOLD): Long {
-            val omega0 = naturalFrequency.toDouble()
-            if (omega0 == 0.0) return Long.MAX_VALUE
-
-            // The envelope of the oscillation decays as e^(-dampingRatio * omega0 * t).
-            // We solve for t when the envelope equals the threshold:
-            // e^(-dampingRatio * omega0 * t) = threshold
-            // t = -ln(threshold) / (dampingRatio * omega0)
-            val effectiveDamping = if (dampingRatio < 0.001f) 0.001 else dampingRatio.toDouble()
-            val settlingTimeSeconds = -ln(threshold.toDouble()) / (effectiveDamping * omega0)
-
-            // Add a small safety margin (10%) to ensure the ValueAnimator doesn't cut off early
-            return (settlingTimeSeconds * 1.1 * 1000).toLong().coerceAtLeast(1L)
+            return SpringSolver.settlingDurationMs(stiffness, dampingRatio, threshold)
         }
 
         /**
          * Creates a [SpringSolver] for evaluating spring position at a given time.
          */
-        fun createSolver(startValue: Float, targetValue: Float): SpringSolver {
-            return SpringSolver(stiffness, dampingRatio, startValue, targetValue)
+        @JvmOverloads
+        fun createSolver(startValue: Float, targetValue: Float, initialVelocity: Float = 0f): SpringSolver {
+            return SpringSolver(stiffness, dampingRatio, startValue, targetValue, initialVelocity)
         }
 
         companion object {
@@ -110,16 +99,7 @@ sealed class AnimationTiming {
                 require(durationMs > 0) { "Duration must be positive, was $durationMs" }
                 require(dampingRatio >= 0f) { "Damping ratio must be non-negative, was $dampingRatio" }
 
-                val durationSeconds = durationMs / 1000.0
-                val effectiveDamping = if (dampingRatio < 0.001f) 0.001 else dampingRatio.toDouble()
-
-                // We want the settling time to match the desired duration.
-                // From settlingTime = -ln(threshold) / (dampingRatio * omega0):
-                //   omega0 = -ln(threshold) / (dampingRatio * settlingTime)
-                //   stiffness = omega0^2
-                val omega0 = -ln(SpringSolver.DEFAULT_SETTLING_THRESHOLD.toDouble()) / (effectiveDamping * durationSeconds)
-                val stiffness = (omega0 * omega0).toFloat()
-
+                val stiffness = SpringSolver.stiffnessForSettlingDuration(durationMs, dampingRatio)
                 return Spring(stiffness, dampingRatio)
             }
         }
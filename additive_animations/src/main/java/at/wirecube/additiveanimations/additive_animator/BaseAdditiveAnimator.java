@@ -18,16 +18,22 @@ import android.view.animation.LinearInterpolator;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
 import at.wirecube.additiveanimations.additive_animator.animation_set.AnimationAction;
 import at.wirecube.additiveanimations.additive_animator.animation_set.AnimationState;
+import at.wirecube.additiveanimations.additive_animator.clock.ChoreographerFrameClock;
+import at.wirecube.additiveanimations.additive_animator.clock.FrameClock;
 import at.wirecube.additiveanimations.additive_animator.sequence.AnimationSequence;
+import at.wirecube.additiveanimations.additive_core.AdditiveLayer;
+import at.wirecube.additiveanimations.additive_core.FrameDriver;
 import at.wirecube.additiveanimations.helper.EaseInOutPathInterpolator;
 import at.wirecube.additiveanimations.helper.FloatProperty;
+import at.wirecube.additiveanimations.helper.InterpolatorCache;
 import at.wirecube.additiveanimations.helper.evaluators.PathEvaluator;
+import at.wirecube.additiveanimations.helper.evaluators.PathLookupTable;
 
 /**
  * This is the base class which provides access to all non-specific animation creation methods such as
@@ -50,39 +56,47 @@ public abstract class BaseAdditiveAnimator<T extends BaseAdditiveAnimator, V> ex
     protected AdditiveAnimationAccumulator mAnimationAccumulator; // holds temporary values that all animators add to
     protected AnimationTiming mCurrentCustomTiming = null;
 
-    /**
-     * Delay set when using {@link BaseAdditiveAnimator#targets(List, long)} to create animations.
-     * Added to the delay set by {@link BaseAdditiveAnimator#setStartDelay(long)} and {@link BaseAdditiveAnimator#sequenceDelay}.
-     * Will be considered in {@link BaseAdditiveAnimator#getTotalDuration()}.
-     */
-    protected long staggerDelay = 0;
-
     /**
      * Delay set by the animation sequence this animator is a part of.
-     * Added to the delay set by {@link BaseAdditiveAnimator#setStartDelay(long)} and the delay introduced by the stagger parameter of
-     * {@link BaseAdditiveAnimator#targets(List, long)}.
+     * Added to the delay set by {@link BaseAdditiveAnimator#setStartDelay(long)}.
      * Will be considered in {@link BaseAdditiveAnimator#getTotalDuration()}.
      */
     protected long sequenceDelay = 0;
 
-    // These properties are stored to avoid any allocations during the animations for performance reasons.
-    private Map<V, List<AccumulatedAnimationValue<V>>> mUnknownProperties = new HashMap<>();
-    private final HashMap<String, Float> mChangedUnknownProperties = new HashMap<>();
-
     /**
-     * Indicates which animation group this animator belongs to.
-     * An animation group is a set of animators which have different targets, but share the same animations.
-     * An example would be: new AdditiveAnimator().targets(v1, v2).alpha(0).start();
-     * In this case, v1 and v2 have different AdditiveAnimator instances, but share the same animations (alpha = 0).
-     * Animation groups are inherited with then() chaining.
-     * All animators in the group can have different starting offsets when using the targets(views, stagger) method.
+     * @deprecated Always null since 1.11.0, animators are no longer grouped. See {@link AdditiveAnimatorGroup}.
      */
+    @Deprecated
     protected AdditiveAnimatorGroup mAnimatorGroup = null;
 
+    /**
+     * The targets set by {@link BaseAdditiveAnimator#targets(List, long)}, or null. The first one is the current target,
+     * the animations of all others are copies of its animations, which start {@link #mStagger} ms after the previous target.
+     * All of them share one accumulator, so they are driven by a single frame callback.
+     */
+    private List<V> mStaggeredTargets = null;
+    private long mStagger = 0;
+    // The builder steps for all targets but the first, recorded once by runForOtherTargets() and replayed for each of them in start().
+    // Building an animator for many targets thus costs the same as building it for one.
+    private List<Runnable> mOtherTargetSteps = null;
+    private boolean mIsRunningForOtherTargets = false;
+    // the index of the current target in mStaggeredTargets, which is also the group of its animations in the accumulator
+    private int mStaggerIndex = 0;
+
+    // These properties are stored to avoid any allocations during the animations for performance reasons.
+    // keyed by identity, so the values of targets which are equal to each other are applied to the right target
+    private final Map<V, List<AccumulatedAnimationValue<V>>> mUnknownProperties = new IdentityHashMap<>();
+    // the targets which have unknown properties in the current frame, in the order they were first changed
+    private final List<V> mTargetsWithUnknownProperties = new ArrayList<>(1);
+    private final ChangedPropertiesMap mChangedUnknownProperties = new ChangedPropertiesMap();
+
     private boolean mIsValid = true; // invalid after start() has been called.
 
     private static long sDefaultAnimationDuration = 300;
-    private static TimeInterpolator sDefaultInterpolator = EaseInOutPathInterpolator.create();
+    // The path interpolator does a binary search on every call, the cache only looks up two samples.
+    private static TimeInterpolator sDefaultInterpolator = InterpolatorCache.forInterpolator(EaseInOutPathInterpolator.create());
+    private static int sDefaultPathSampleCount = PathLookupTable.DEFAULT_SAMPLE_COUNT;
+    private static AdditiveLayer.Storage sDefaultLayerStorage = AdditiveLayer.Storage.OBJECTS;
 
     protected T self() {
         try {
@@ -195,41 +209,58 @@ public abstract class BaseAdditiveAnimator<T extends BaseAdditiveAnimator, V> ex
     }
 
     void applyChanges(List<AccumulatedAnimationValue<V>> accumulatedAnimations) {
-        for (AccumulatedAnimationValue<V> accumulatedAnimationValue : accumulatedAnimations) {
+        // Called every frame, so this must not allocate: no iterators, and all collections are reused.
+        for (int i = 0; i < accumulatedAnimations.size(); i++) {
+            AccumulatedAnimationValue<V> accumulatedAnimationValue = accumulatedAnimations.get(i);
             V target = accumulatedAnimationValue.animation.getTarget();
-            if (accumulatedAnimationValue.animation.getProperty() != null) {
-                accumulatedAnimationValue.animation.getProperty().set(target, accumulatedAnimationValue.tempValue);
+            Property<V, Float> property = accumulatedAnimationValue.animation.getProperty();
+            if (property != null) {
+                setPropertyValue(property, target, accumulatedAnimationValue.tempValue);
             } else {
-                if (mUnknownProperties == null) {
-                    mUnknownProperties = new HashMap<>();
-                }
                 List<AccumulatedAnimationValue<V>> accumulatedValues = mUnknownProperties.get(target);
                 if (accumulatedValues == null) {
                     accumulatedValues = new ArrayList<>(1);
                     mUnknownProperties.put(target, accumulatedValues);
                 }
+                if (accumulatedValues.isEmpty()) {
+                    mTargetsWithUnknownProperties.add(target);
+                }
                 accumulatedValues.add(accumulatedAnimationValue);
             }
         }
 
-        if (mUnknownProperties != null) {
-            for (V v : mUnknownProperties.keySet()) {
-                for (AccumulatedAnimationValue<V> value : mUnknownProperties.get(v)) {
-                    mChangedUnknownProperties.put(value.animation.getTag(), value.tempValue);
-                }
-                applyCustomProperties(mChangedUnknownProperties, v);
+        for (int i = 0; i < mTargetsWithUnknownProperties.size(); i++) {
+            V target = mTargetsWithUnknownProperties.get(i);
+            List<AccumulatedAnimationValue<V>> accumulatedValues = mUnknownProperties.get(target);
+            for (int j = 0; j < accumulatedValues.size(); j++) {
+                AccumulatedAnimationValue<V> value = accumulatedValues.get(j);
+                mChangedUnknownProperties.putFloat(value.animation.getTag(), value.tempValue);
             }
+            applyCustomProperties(mChangedUnknownProperties, target);
+            // reuse the lists and the map
+            accumulatedValues.clear();
+            mChangedUnknownProperties.clear();
         }
-
-        // reuse the set/map/lists
-        for (Collection<AccumulatedAnimationValue<V>> properties : mUnknownProperties.values()) {
-            properties.clear();
-        }
-        mChangedUnknownProperties.clear();
+        mTargetsWithUnknownProperties.clear();
 
         this.onApplyChanges();
     }
 
+    /**
+     * Sets the value without boxing it if the property supports that, which is the case for the {@link FloatProperty} subclasses
+     * of this library and for the {@link android.util.FloatProperty} instances of the framework (e.g. {@link android.view.View#X}).
+     */
+    @SuppressWarnings("unchecked")
+    static <V> void setPropertyValue(Property<V, Float> property, V target, float value) {
+        if (property instanceof FloatProperty) {
+            ((FloatProperty<V>) property).setValue(target, value);
+        } else if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N && property instanceof android.util.FloatProperty) {
+            ((android.util.FloatProperty<V>) property).setValue(target, value);
+        } else {
+            property.set(target, value);
+        }
+    }
+
     /**
      * This method will be called when the current frame has been calculated.
      * Override this method in a subclass to trigger a layout of your view/canvas/custom object.
@@ -240,6 +271,15 @@ public abstract class BaseAdditiveAnimator<T extends BaseAdditiveAnimator, V> ex
         // Override to apply custom properties
     }
 
+    /**
+     * Applies the values of the animations without a property (see {@link AdditiveAnimation#getTag()}) of `target` in the current frame.
+     * Override this instead of {@link #applyCustomProperties(Map, Object)} to read the values without boxing them,
+     * see {@link ChangedPropertiesMap}. By default, this calls {@link #applyCustomProperties(Map, Object)}.
+     */
+    protected void applyCustomProperties(ChangedPropertiesMap tempProperties, V target) {
+        applyCustomProperties((Map<String, Float>) tempProperties, target);
+    }
+
     protected V getCurrentTarget() {
         return mCurrentTarget;
     }
@@ -257,6 +297,25 @@ public abstract class BaseAdditiveAnimator<T extends BaseAdditiveAnimator, V> ex
         return animation;
     }
 
+    /**
+     * Like {@link #createAnimation(Property, float, TypeEvaluator)}, but the animation is taken from the object pool if pooling is enabled.
+     * The result must be passed to {@link #animate(AdditiveAnimation)} and must not be referenced afterwards,
+     * since it is recycled as soon as its accumulator ends.
+     */
+    final AdditiveAnimation<V> obtainAnimation(Property<V, Float> property, float targetValue, TypeEvaluator<Float> evaluator) {
+        AdditiveAnimation<V> animation = AdditiveAnimationPool.obtain(
+            mCurrentTarget,
+            property,
+            property.get(mCurrentTarget),
+            targetValue
+        );
+        animation.setCustomTypeEvaluator(evaluator);
+        if (mCurrentCustomTiming != null) {
+            animation.setTiming(mCurrentCustomTiming);
+        }
+        return animation;
+    }
+
     protected final AdditiveAnimation<V> createAnimation(
         Property<V, Float> property,
         float targetValue,
@@ -311,16 +370,17 @@ public abstract class BaseAdditiveAnimator<T extends BaseAdditiveAnimator, V> ex
                 "Cannot enqueue an animation without a valid target. Provide a target using the `target()` method, constructor parameter or animate() builder methods before enqueuing animations.");
         }
         initValueAnimatorIfNeeded();
-        getRunningAnimationsManager().addAnimation(mAnimationAccumulator, animation);
+        getRunningAnimationsManager().addAnimation(mAnimationAccumulator, animation, mStaggerIndex);
         if (propagateToParentAnimators) {
-            runIfParentIsInSameAnimationGroup(() -> {
+            runForOtherTargets(() -> {
                 final Float startValue;
                 if (animation.getProperty() != null) {
-                    startValue = (Float) animation.getProperty().get(mParent.getCurrentTarget());
+                    startValue = (Float) animation.getProperty().get(mCurrentTarget);
                 } else {
-                    startValue = BaseAdditiveAnimator.this.getTargetPropertyValue(animation.getTag());
+                    startValue = getTargetPropertyValue(animation.getTag());
                 }
-                mParent.animate(animation.cloneWithTarget(mParent.getCurrentTarget(), startValue));
+                // the clone never leaves this animator, so it can be recycled just like the original
+                animate(AdditiveAnimationPool.obtainClone(animation, mCurrentTarget, startValue), false);
             });
         }
         return self();
@@ -337,7 +397,18 @@ public abstract class BaseAdditiveAnimator<T extends BaseAdditiveAnimator, V> ex
         PathEvaluator sharedEvaluator
     ) {
         initValueAnimatorIfNeeded();
-        return animate(createAnimation(property, p, mode, sharedEvaluator));
+        AdditiveAnimation<V> animation = AdditiveAnimationPool.obtain(
+            mCurrentTarget,
+            property,
+            property.get(mCurrentTarget),
+            p,
+            mode,
+            sharedEvaluator
+        );
+        if (mCurrentCustomTiming != null) {
+            animation.setTiming(mCurrentCustomTiming);
+        }
+        return animate(animation);
     }
 
     protected final T animate(Property<V, Float> property, float target) {
@@ -346,7 +417,7 @@ public abstract class BaseAdditiveAnimator<T extends BaseAdditiveAnimator, V> ex
 
     protected final T animate(Property<V, Float> property, float target, TypeEvaluator<Float> evaluator) {
         initValueAnimatorIfNeeded();
-        AdditiveAnimation<V> animation = createAnimation(property, target, evaluator);
+        AdditiveAnimation<V> animation = obtainAnimation(property, target, evaluator);
         return animate(animation);
     }
 
@@ -359,12 +430,12 @@ public abstract class BaseAdditiveAnimator<T extends BaseAdditiveAnimator, V> ex
         final boolean byValueCanBeUsedByParentAnimators
     ) {
         initValueAnimatorIfNeeded();
-        AdditiveAnimation<V> animation = createAnimation(property, by);
+        AdditiveAnimation<V> animation = obtainAnimation(property, by, null);
         animation.setBy(true);
         initValueAnimatorIfNeeded();
-        getRunningAnimationsManager().addAnimation(mAnimationAccumulator, animation);
+        getRunningAnimationsManager().addAnimation(mAnimationAccumulator, animation, mStaggerIndex);
         if (byValueCanBeUsedByParentAnimators) {
-            runIfParentIsInSameAnimationGroup(() -> mParent.animatePropertyBy(property, by, true));
+            runForOtherTargets(() -> animatePropertyBy(property, by, false));
         }
         return self();
     }
@@ -375,7 +446,7 @@ public abstract class BaseAdditiveAnimator<T extends BaseAdditiveAnimator, V> ex
         Property<V, Float> rotationProperty,
         Path path
     ) {
-        PathEvaluator sharedEvaluator = new PathEvaluator();
+        PathEvaluator sharedEvaluator = new PathEvaluator(sDefaultPathSampleCount);
         if (xProperty != null) {
             animate(xProperty, path, PathEvaluator.PathMode.X, sharedEvaluator);
         }
@@ -398,9 +469,7 @@ public abstract class BaseAdditiveAnimator<T extends BaseAdditiveAnimator, V> ex
     }
 
     public T property(float target, TypeEvaluator<Float> evaluator, FloatProperty<V> property) {
-        AdditiveAnimation<V> animation = createAnimation(property, target);
-        animation.setCustomTypeEvaluator(evaluator);
-        return animate(animation);
+        return animate(obtainAnimation(property, target, evaluator));
     }
 
     /**
@@ -425,14 +494,10 @@ public abstract class BaseAdditiveAnimator<T extends BaseAdditiveAnimator, V> ex
 
     public T state(AnimationState<V> state) {
         getRunningAnimationsManager().setCurrentState(state);
-        // make sure to also set the state for all animators in our current group:
-        if (mAnimatorGroup != null) {
-            for (BaseAdditiveAnimator animator : mAnimatorGroup.mAnimators) {
-                animator.getRunningAnimationsManager().setCurrentState(state);
-            }
-        }
+        // make sure to also set the state for all other targets of this animator:
+        runForOtherTargets(() -> getRunningAnimationsManager().setCurrentState(state));
         for (AnimationAction.Animation<V> animation : state.getAnimations()) {
-            AdditiveAnimation anim = createAnimation(
+            AdditiveAnimation anim = obtainAnimation(
                 animation.getProperty(),
                 animation.getTargetValue(),
                 animation.getTypeEvaluator()
@@ -492,11 +557,85 @@ public abstract class BaseAdditiveAnimator<T extends BaseAdditiveAnimator, V> ex
     /**
      * Globally sets the default interpolator to use for all AdditiveAnimator instances.
      * You can override this by calling {@link #setInterpolator(TimeInterpolator)} on a specific instance.
+     * Expensive interpolators can be wrapped with {@link InterpolatorCache#forInterpolator(TimeInterpolator)} first.
      */
     public static void setDefaultInterpolator(TimeInterpolator interpolator) {
         sDefaultInterpolator = interpolator;
     }
 
+    /**
+     * Globally sets the number of samples taken along a path when animating along it, e.g. with {@code xyAlongPath()}.
+     * Higher values follow curves more closely, but take longer to measure when the animation is created.
+     * The default is {@link PathLookupTable#DEFAULT_SAMPLE_COUNT}.
+     */
+    public static void setDefaultPathSampleCount(int sampleCount) {
+        sDefaultPathSampleCount = sampleCount;
+    }
+
+    /**
+     * Globally sets how animators store the per-frame state of their animations.
+     * {@link AdditiveLayer.Storage#PACKED} keeps plain linear animations in primitive arrays, which makes each frame considerably cheaper
+     * when a single animator drives thousands of targets with the same timing, e.g. particle effects drawn on a canvas.
+     * Animations with springs, paths, custom evaluators or per-animation interpolators are not affected.
+     * The default is {@link AdditiveLayer.Storage#OBJECTS}. Only animators created after this call use the new storage.
+     */
+    public static void setDefaultLayerStorage(AdditiveLayer.Storage storage) {
+        sDefaultLayerStorage = storage;
+    }
+
+    static AdditiveLayer.Storage getDefaultLayerStorage() {
+        return sDefaultLayerStorage;
+    }
+
+    /**
+     * Globally limits how many animations can run on the same property of the same target at once.
+     * Every new animation of a property adds another layer on top of the running ones, which is what makes the animations additive,
+     * but also what makes each frame more expensive when new animations are started faster than the old ones end (e.g. while dragging).
+     * When the limit is exceeded, the oldest layers are removed and the new animation takes over the distance they still had to cover,
+     * so the property neither jumps nor ends at a different value.
+     * By default, the number of layers is unlimited. Animations along paths never collapse older layers.
+     */
+    public static void setMaxLayersPerProperty(int maxLayers) {
+        if (maxLayers < 1) {
+            throw new IllegalArgumentException("At least one layer per property is required, but the maximum was " + maxLayers);
+        }
+        RunningAnimationsManager.setMaxLayersPerProperty(maxLayers);
+    }
+
+    /**
+     * Globally enables or disables retargeting of springs, which is disabled by default.
+     * Usually, every new animation is added on top of the running animations of the same property.
+     * With retargeting, a new spring animation (see {@link #setSpring(float, float)}) instead replaces all running animations of its property:
+     * it starts at the current value and with the current velocity of the replaced animations, so the motion continues smoothly
+     * towards the new target and only one spring has to be evaluated per property.
+     * Animations along paths are never retargeted.
+     */
+    public static void setSpringRetargetingEnabled(boolean enabled) {
+        RunningAnimationsManager.setSpringRetargetingEnabled(enabled);
+    }
+
+    /**
+     * Globally enables or disables object pooling, which is disabled by default.
+     * When enabled, the animations created by the builder methods (and the bookkeeping objects they need) are recycled when their animator ends
+     * and reused by the following animators. This removes most allocations from code that starts new animations at a high rate,
+     * e.g. on every touch event of a drag gesture.
+     * Animators can never be restarted, so recycling is invisible to callers. Animations passed to {@link #animate(AdditiveAnimation)}
+     * by subclasses are never recycled.
+     */
+    public static void setObjectPoolingEnabled(boolean enabled) {
+        AdditiveAnimationPool.setEnabled(enabled);
+    }
+
+    /**
+     * Globally sets the clock which drives all additive animations.
+     * By default, animations are driven by the {@link android.view.Choreographer} of the main thread ({@link ChoreographerFrameClock}).
+     * Pass a {@link at.wirecube.additiveanimations.additive_animator.clock.ManualFrameClock} to tick animations deterministically,
+     * for example in tests or benchmarks.
+     */
+    public static void setFrameClock(@NonNull FrameClock frameClock) {
+        FrameDriver.getInstance().setFrameClock(frameClock);
+    }
+
     /**
      * Sets the current animation target. You can change the animation target multiple times before calling
      * {@link #start()}:<p/>
@@ -507,12 +646,12 @@ public abstract class BaseAdditiveAnimator<T extends BaseAdditiveAnimator, V> ex
      * If you want to animate the same property of multiple views, use {@link #targets(Object[])} or {@link #targets(List, long)}
      */
     public T target(V v) {
-        if (mAnimatorGroup != null) {
-            // Changes to animation duration, interpolator etc. always affect the whole animation group.
-            // After changing target, we don't want to mess with the current animation group, because you would want something like this to be possible:
+        if (mStaggeredTargets != null) {
+            // Changes to animation duration, interpolator etc. always affect all targets that were passed to targets().
+            // After changing target, we don't want to mess with those targets, because you would want something like this to be possible:
             // new AdditiveAnimator().targets(v1, v2).setDuration(200).x(50).target(v3).x(100).setDuration(100).start();
             // It's clear from that example that the animation duration for v1 and v2 should be the same (200), but different for v3 (100).
-            return (T) createChildWithDelayAfterParentStart(0, false).target(v);
+            return (T) createChildWithDelayAfterParentStart(0).target(v);
         }
         mCurrentTarget = v;
         mRunningAnimationsManager = RunningAnimationsManager.from(v);
@@ -522,7 +661,7 @@ public abstract class BaseAdditiveAnimator<T extends BaseAdditiveAnimator, V> ex
 
     /**
      * Used to animate the same property of multiple views.
-     * This is a convenience method which simply creates a series of animators which will start simultaneously.
+     * All targets share the same animations and start simultaneously.
      * Example: <p/>
      * <code>new AdditiveAnimator().targets(textView, button).alpha(0).start()</code>
      */
@@ -532,7 +671,7 @@ public abstract class BaseAdditiveAnimator<T extends BaseAdditiveAnimator, V> ex
 
     /**
      * Used to animate the same property of multiple views.
-     * This is a convenience method which simply creates a series of animators which will start simultaneously.
+     * All targets share the same animations and start simultaneously.
      * Example: <p/>
      * <code>new AdditiveAnimator().targets(myViewList).alpha(0).start()</code>
      */
@@ -542,7 +681,9 @@ public abstract class BaseAdditiveAnimator<T extends BaseAdditiveAnimator, V> ex
 
     /**
      * Used to animate the same property of multiple views, with a delay before each element.
-     * This is a convenience method which simply creates a series of animators which will start with `stagger` offset after each other.
+     * All targets share the same animations, each target starts `stagger` ms after the previous one.
+     * The animations of all targets are driven by this animator, so listeners are called once for all of them:
+     * start listeners when the first target starts, end listeners when the last target ends.
      * Example: <p/>
      * <code>new AdditiveAnimator().targets(Arrays.asList(textView, button), 100).translationYBy(100).alpha(0).start()</code>
      */
@@ -551,30 +692,23 @@ public abstract class BaseAdditiveAnimator<T extends BaseAdditiveAnimator, V> ex
             throw new IllegalArgumentException(
                 "You passed a list containing 0 views to BaseAdditiveAnimator.targets(). This would cause buggy animations, so it's probably more desirable to crash instead.");
         }
-
-        if (mAnimatorGroup != null) {
-            // if we are already part of an animation group, we create a new animator:
-            return (T) createChildWithDelayAfterParentStart(0, false).targets(vs, stagger);
+        if (stagger < 0) {
+            throw new IllegalArgumentException("The stagger must not be negative, but was " + stagger);
         }
 
-        AdditiveAnimatorGroup group = new AdditiveAnimatorGroup();
-        // Call order is important here:
-        // We must call target() before setting the animator group, otherwise we create a new animator
-        this.target(vs.get(0));
-        group.add(this);
-
-        T animator = self();
-        for (int i = 1; i < vs.size(); i++) {
-            animator = (T) animator.createChildWithDelayAfterParentStart(stagger, true);
-            // Same as above: call order (first target(), then adding to animator group) is important.
-            animator.target(vs.get(i));
-            group.add(animator);
+        if (mStaggeredTargets != null) {
+            // if we already animate multiple targets, we create a new animator:
+            return (T) createChildWithDelayAfterParentStart(0).targets(vs, stagger);
         }
-        return animator;
+
+        // copied, because later changes to the list must not change the targets of this animator
+        setStaggeredTargets(new ArrayList<>(vs), stagger);
+        return self();
     }
 
     public T addUpdateListener(ValueAnimator.AnimatorUpdateListener listener) {
-        getValueAnimator().addUpdateListener(listener);
+        initValueAnimatorIfNeeded();
+        mAnimationAccumulator.addUpdateListener(listener);
         return self();
     }
 
@@ -620,14 +754,12 @@ public abstract class BaseAdditiveAnimator<T extends BaseAdditiveAnimator, V> ex
 
     public T setStartDelay(final long startDelay) {
         getValueAnimator().setStartDelay(startDelay);
-        runIfParentIsInSameAnimationGroup(() -> mParent.setStartDelay(startDelay));
         return self();
     }
 
 
     public T setDuration(final long duration) {
         getValueAnimator().setDuration(duration);
-        runIfParentIsInSameAnimationGroup(() -> mParent.setDuration(duration));
         return self();
     }
 
@@ -643,7 +775,6 @@ public abstract class BaseAdditiveAnimator<T extends BaseAdditiveAnimator, V> ex
         }
         mCurrentCustomTiming = new AnimationTiming.Interpolated(interpolator);
         getValueAnimator().setInterpolator(interpolator);
-        runIfParentIsInSameAnimationGroup(() -> mParent.setInterpolator(interpolator));
         return self();
     }
 
@@ -667,7 +798,6 @@ public abstract class BaseAdditiveAnimator<T extends BaseAdditiveAnimator, V> ex
         // Spring timing uses a linear interpolator so that getAnimatedFraction() returns real elapsed time.
         getValueAnimator().setInterpolator(new LinearInterpolator());
         getValueAnimator().setDuration(spring.settlingDurationMs());
-        runIfParentIsInSameAnimationGroup(() -> mParent.setSpring(stiffness, dampingRatio));
         return self();
     }
 
@@ -690,7 +820,6 @@ public abstract class BaseAdditiveAnimator<T extends BaseAdditiveAnimator, V> ex
         mCurrentCustomTiming = spring;
         getValueAnimator().setInterpolator(new LinearInterpolator());
         getValueAnimator().setDuration(spring.settlingDurationMs());
-        runIfParentIsInSameAnimationGroup(() -> mParent.setSpringWithDuration(durationMs, dampingRatio));
         return self();
     }
 
@@ -702,14 +831,12 @@ public abstract class BaseAdditiveAnimator<T extends BaseAdditiveAnimator, V> ex
     // TODO: handle parent repeat
     public T setRepeatCount(final int repeatCount) {
         getValueAnimator().setRepeatCount(repeatCount);
-        runIfParentIsInSameAnimationGroup(() -> mParent.setRepeatCount(repeatCount));
         return self();
     }
 
     // TODO: investigate possible problems when repeat modes of children/parents don't match
     public T setRepeatMode(final int repeatMode) {
         getValueAnimator().setRepeatMode(repeatMode);
-        runIfParentIsInSameAnimationGroup(() -> mParent.setRepeatMode(repeatMode));
         return self();
     }
 
@@ -732,8 +859,6 @@ public abstract class BaseAdditiveAnimator<T extends BaseAdditiveAnimator, V> ex
             mCurrentCustomTiming = new AnimationTiming.Interpolated(newInterpolator);
             // now we want to animate linearly, all animations are going to map to the current value themselves
             getValueAnimator().setInterpolator(new LinearInterpolator());
-
-            runIfParentIsInSameAnimationGroup(() -> mParent.switchInterpolator(newInterpolator));
             return self();
         } else {
             T child = thenWithDelay(0);
@@ -753,10 +878,8 @@ public abstract class BaseAdditiveAnimator<T extends BaseAdditiveAnimator, V> ex
      * that was configured with this animator.
      */
     public T then() {
-        if (mAnimatorGroup != null) {
-            return (T) mAnimatorGroup.copyAndChain(BaseAdditiveAnimator::getTotalDuration).outermostChildAnimator();
-        }
-        return createChildWithRawDelay(getTotalDuration());
+        // every target continues once its own animations are done
+        return withSameTargets(createChildWithRawDelay(getTotalDuration() - getStaggerSpan()));
     }
 
     /**
@@ -764,10 +887,7 @@ public abstract class BaseAdditiveAnimator<T extends BaseAdditiveAnimator, V> ex
      * with the last used target and interpolator.
      */
     public T thenWithDelay(final long delay) {
-        if (mAnimatorGroup != null) {
-            return (T) mAnimatorGroup.copyAndChain(parent -> parent.getValueAnimator().getStartDelay() + delay).outermostChildAnimator();
-        }
-        return createChildWithDelayAfterParentStart(delay, false);
+        return withSameTargets(createChildWithDelayAfterParentStart(delay));
     }
 
     /**
@@ -775,10 +895,7 @@ public abstract class BaseAdditiveAnimator<T extends BaseAdditiveAnimator, V> ex
      * with the last used target and interpolator.
      */
     public T thenDelayAfterEnd(final long delayAfterEnd) {
-        if (mAnimatorGroup != null) {
-            return (T) mAnimatorGroup.copyAndChain(parent -> parent.getTotalDuration() + delayAfterEnd).outermostChildAnimator();
-        }
-        return createChildWithRawDelay(getTotalDuration() + delayAfterEnd);
+        return withSameTargets(createChildWithRawDelay(getTotalDuration() - getStaggerSpan() + delayAfterEnd));
     }
 
     /**
@@ -786,10 +903,25 @@ public abstract class BaseAdditiveAnimator<T extends BaseAdditiveAnimator, V> ex
      * with the last used target and interpolator.
      */
     public T thenBeforeEnd(final long millisBeforeEnd) {
-        if (mAnimatorGroup != null) {
-            return (T) mAnimatorGroup.copyAndChain(parent -> parent.getTotalDuration() - millisBeforeEnd).outermostChildAnimator();
+        return withSameTargets(createChildWithRawDelay(getTotalDuration() - getStaggerSpan() - millisBeforeEnd));
+    }
+
+    // then-chained animators keep animating all targets that were passed to targets(), with the same stagger
+    private T withSameTargets(T child) {
+        if (mStaggeredTargets == null) {
+            return child;
         }
-        return createChildWithRawDelay(getTotalDuration() - millisBeforeEnd);
+        // mStaggeredTargets is never modified, so all animators of the chain share it instead of copying it for every link
+        ((BaseAdditiveAnimator) child).setStaggeredTargets(mStaggeredTargets, mStagger);
+        return child;
+    }
+
+    private void setStaggeredTargets(List<V> targets, long stagger) {
+        // Call order is important here: target() creates a new animator once the staggered targets are set.
+        target(targets.get(0));
+        mStaggeredTargets = targets;
+        mStagger = stagger;
+        mAnimationAccumulator.setStagger(stagger, targets.size());
     }
 
     protected T createChildWithRawDelay(long delay) {
@@ -799,16 +931,19 @@ public abstract class BaseAdditiveAnimator<T extends BaseAdditiveAnimator, V> ex
         return newInstance;
     }
 
-    protected T createChildWithDelayAfterParentStart(long delay, boolean isStagger) {
+    protected T createChildWithDelayAfterParentStart(long delay) {
         T newInstance = createChildWithRawDelay(0);
-        if (isStagger) {
-            newInstance.staggerDelay = delay;
-        }
-        // TODO: make sure staggerDelay is used correctly
         newInstance.setStartDelay(getValueAnimator().getStartDelay() + delay);
         return newInstance;
     }
 
+    /**
+     * @return The time between the start of the first and the last target passed to {@link #targets(List, long)}.
+     */
+    private long getStaggerSpan() {
+        return mStaggeredTargets == null ? 0 : mStagger * (mStaggeredTargets.size() - 1);
+    }
+
     long getTotalDuration() {
         if (getValueAnimator().getRepeatCount() == ValueAnimator.INFINITE) {
             if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
@@ -817,14 +952,14 @@ public abstract class BaseAdditiveAnimator<T extends BaseAdditiveAnimator, V> ex
                 return -1;
             }
         }
-        return this.sequenceDelay + this.staggerDelay + getValueAnimator().getStartDelay() + (getValueAnimator().getDuration() * (getValueAnimator().getRepeatCount() + 1));
+        return this.sequenceDelay + getStaggerSpan() + getValueAnimator().getStartDelay() + (getValueAnimator().getDuration() * (getValueAnimator().getRepeatCount() + 1));
     }
 
     @Override
     public long getTotalDurationInSequence() {
         if (getValueAnimator().getRepeatCount() == ValueAnimator.INFINITE) {
             // just use 1 cycle for the sequence duration calculation for infinite animations
-            return this.sequenceDelay + this.staggerDelay + getValueAnimator().getStartDelay();
+            return this.sequenceDelay + getStaggerSpan() + getValueAnimator().getStartDelay();
         }
         return getTotalDuration();
     }
@@ -834,23 +969,47 @@ public abstract class BaseAdditiveAnimator<T extends BaseAdditiveAnimator, V> ex
         this.sequenceDelay = delay;
     }
 
+    @Override
+    public long getDelayInSequence() {
+        return this.sequenceDelay;
+    }
+
     @Override
     public void start() {
-        if (mParent != null) {
-            mParent.start();
+        // then()-chains can be arbitrarily long, so the chain is collected iteratively instead of recursing into the parent.
+        // The start delay of every animator in the chain is already relative to the start of the first one (see then()),
+        // so starting them is all that's left to do. Animators that have already been started are not started again.
+        List<BaseAdditiveAnimator> chain = new ArrayList<>();
+        for (BaseAdditiveAnimator animator = this; animator != null && animator.mIsValid; animator = animator.mParent) {
+            chain.add(animator);
         }
 
-        // TODO: don't start a ValueAnimator if getTotalDuration() == 0
-        getValueAnimator().setStartDelay(getValueAnimator().getStartDelay() + this.sequenceDelay);
-        getValueAnimator().start();
+        // The sequence delay of the animator start() is called on places the whole chain (that's the one an AnimationSequence sets).
+        // The sequence delay of any other link moves that link and all links after it, so the then()-order is kept.
+        long[] sequenceDelays = new long[chain.size()];
+        long sequenceDelay = this.sequenceDelay;
+        for (int i = chain.size() - 1; i > 0; i--) {
+            sequenceDelay += chain.get(i).sequenceDelay;
+            sequenceDelays[i] = sequenceDelay;
+        }
+        sequenceDelays[0] = sequenceDelay;
+
+        for (int i = chain.size() - 1; i >= 0; i--) {
+            chain.get(i).startSelf(sequenceDelays[i]);
+        }
+    }
+
+    private void startSelf(long sequenceDelay) {
+        // zero-duration and zero-delta animations are applied synchronously without scheduling a frame, see AdditiveAnimationAccumulator.start()
+        getValueAnimator().setStartDelay(getValueAnimator().getStartDelay() + sequenceDelay);
+        replayStepsForOtherTargets();
+        mAnimationAccumulator.start();
 
         // invalidate this animator to prevent incorrect usage:
         // TODO: get rid of this flag. Animators should simply not become invalid.
         mIsValid = false;
-    }
-
-    void setAnimationGroup(AdditiveAnimatorGroup group) {
-        mAnimatorGroup = group;
+        // the chain is no longer needed once it's running, and would otherwise keep all previous animators alive
+        mParent = null;
     }
 
     /**
@@ -868,9 +1027,68 @@ public abstract class BaseAdditiveAnimator<T extends BaseAdditiveAnimator, V> ex
         return self();
     }
 
-    protected void runIfParentIsInSameAnimationGroup(Runnable r) {
-        if (mAnimatorGroup != null && mParent != null && mParent.mAnimatorGroup == mAnimatorGroup) {
-            r.run();
+    /**
+     * Runs `r` once for every target passed to {@link #targets(List, long)} except the first one, with that target as the
+     * current target. Animations created by `r` are staggered accordingly.
+     * Use this in builder methods that can't simply propagate their animations with {@link #animate(AdditiveAnimation, boolean)},
+     * e.g. because the target value depends on the current value of each target.
+     * <p>
+     * `r` is only recorded here and runs when this animator is started, in the order in which the builder methods were called.
+     * Does nothing if this animator has a single target, or if it is already running for the other targets.
+     */
+    protected final void runForOtherTargets(Runnable r) {
+        if (mStaggeredTargets == null || mIsRunningForOtherTargets) {
+            return;
+        }
+        if (mOtherTargetSteps == null) {
+            mOtherTargetSteps = new ArrayList<>();
+        }
+        mOtherTargetSteps.add(r);
+    }
+
+    private void replayStepsForOtherTargets() {
+        if (mOtherTargetSteps == null) {
+            return;
         }
+        V firstTarget = mCurrentTarget;
+        RunningAnimationsManager<V> firstManager = mRunningAnimationsManager;
+        mIsRunningForOtherTargets = true;
+        try {
+            for (int i = 1; i < mStaggeredTargets.size(); i++) {
+                mCurrentTarget = mStaggeredTargets.get(i);
+                mRunningAnimationsManager = RunningAnimationsManager.from(mCurrentTarget);
+                mStaggerIndex = i;
+                for (int j = 0; j < mOtherTargetSteps.size(); j++) {
+                    mOtherTargetSteps.get(j).run();
+                }
+            }
+        } finally {
+            mCurrentTarget = firstTarget;
+            mRunningAnimationsManager = firstManager;
+            mStaggerIndex = 0;
+            mIsRunningForOtherTargets = false;
+            mOtherTargetSteps = null;
+        }
+    }
+
+    /**
+     * @deprecated Animators no longer create one child animator per target in {@link #targets(List, long)}.
+     * Use {@link #runForOtherTargets(Runnable)} instead, with a runnable that calls the builder method on this animator.
+     * <p>
+     * For compatibility, this runs `r` once for every other target, just like {@link #runForOtherTargets(Runnable)}.
+     * Runnables written for the old behavior call the builder method on {@link #mParent}, so {@link #mParent} refers to this
+     * animator (with the other target as its current target) while `r` runs.
+     */
+    @Deprecated
+    protected void runIfParentIsInSameAnimationGroup(Runnable r) {
+        runForOtherTargets(() -> {
+            T parent = mParent;
+            mParent = self();
+            try {
+                r.run();
+            } finally {
+                mParent = parent;
+            }
+        });
     }
 }
@@ -0,0 +1,159 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.additive_animator;
+
+import java.util.AbstractMap;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * The read-only map of custom property values passed to {@link BaseAdditiveAnimator#applyCustomProperties(ChangedPropertiesMap, Object)}.
+ * Unlike a HashMap, it doesn't allocate entries when it is refilled, so it can be reused for every target in every frame.
+ * <p>
+ * Reading the values through the {@link Map} methods boxes them, and iterating over {@link #entrySet()} allocates an entry
+ * for every value. {@link #getFloat(String, float)}, {@link #getKey(int)} and {@link #getFloat(int)} read them without allocating:
+ * <pre>
+ * for (int i = 0; i &lt; values.size(); i++) {
+ *     apply(values.getKey(i), values.getFloat(i));
+ * }
+ * </pre>
+ */
+public final class ChangedPropertiesMap extends AbstractMap<String, Float> {
+
+    private String[] mKeys = new String[4];
+    private float[] mValues = new float[4];
+    private int mSize = 0;
+    private final Set<Entry<String, Float>> mEntrySet = new AbstractSet<Entry<String, Float>>() {
+        @Override
+        public Iterator<Entry<String, Float>> iterator() {
+            return new Iterator<Entry<String, Float>>() {
+                private int mIndex = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return mIndex < mSize;
+                }
+
+                @Override
+                public Entry<String, Float> next() {
+                    if (mIndex >= mSize) {
+                        throw new NoSuchElementException();
+                    }
+                    Entry<String, Float> entry = new SimpleImmutableEntry<>(mKeys[mIndex], mValues[mIndex]);
+                    mIndex++;
+                    return entry;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return mSize;
+        }
+    };
+
+    ChangedPropertiesMap() {}
+
+    void putFloat(String key, float value) {
+        int index = indexOf(key);
+        if (index >= 0) {
+            mValues[index] = value;
+            return;
+        }
+        if (mSize == mKeys.length) {
+            mKeys = Arrays.copyOf(mKeys, mSize * 2);
+            mValues = Arrays.copyOf(mValues, mSize * 2);
+        }
+        mKeys[mSize] = key;
+        mValues[mSize] = value;
+        mSize++;
+    }
+
+    /**
+     * @return The index of the value of `key`, or -1 if this map doesn't contain it.
+     */
+    public int indexOf(Object key) {
+        for (int i = 0; i < mSize; i++) {
+            if (mKeys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return The name of the property at `index`, which ranges from 0 to {@link #size()} - 1.
+     */
+    public String getKey(int index) {
+        checkIndex(index);
+        return mKeys[index];
+    }
+
+    /**
+     * @return The value of the property at `index`, which ranges from 0 to {@link #size()} - 1.
+     */
+    public float getFloat(int index) {
+        checkIndex(index);
+        return mValues[index];
+    }
+
+    /**
+     * @return The value of `key`, or `defaultValue` if this map doesn't contain it.
+     */
+    public float getFloat(String key, float defaultValue) {
+        int index = indexOf(key);
+        return index < 0 ? defaultValue : mValues[index];
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= mSize) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for size " + mSize);
+        }
+    }
+
+    @Override
+    public int size() {
+        return mSize;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public Float get(Object key) {
+        int index = indexOf(key);
+        return index < 0 ? null : mValues[index];
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(mKeys, 0, mSize, null);
+        mSize = 0;
+    }
+
+    @Override
+    public Set<Entry<String, Float>> entrySet() {
+        return mEntrySet;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.additive_animator;
+
+import android.view.View;
+import android.view.ViewParent;
+
+import androidx.core.view.ViewCompat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import at.wirecube.additiveanimations.additive_core.FrameDriver;
+
+/**
+ * Collects the views whose layout was changed by any animator during a frame and requests a single layout pass for them
+ * once all animators have committed the frame (see {@link FrameDriver#runAfterCommit(Runnable)}).
+ * <p>
+ * Instead of calling {@link View#requestLayout()} on every dirty view, the views (and their parents up to the nearest common
+ * ancestor of all dirty views in the same hierarchy) are only marked with {@link View#forceLayout()}, and layout is requested
+ * once for each common ancestor. The views that are laid out in the next layout pass are the same either way.
+ * <p>
+ * Like the rest of the animation engine, this class must only be used from the main thread.
+ */
+final class LayoutRequestBatcher implements Runnable {
+
+    private static final LayoutRequestBatcher sInstance = new LayoutRequestBatcher();
+
+    static LayoutRequestBatcher getInstance() {
+        return sInstance;
+    }
+
+    // all of these are reused in every frame to avoid allocations
+    private final Set<View> mDirtyViewSet = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final List<View> mDirtyViews = new ArrayList<>();
+    // the nearest common ancestor of the dirty views of each view hierarchy
+    private final List<View> mSubtreeRoots = new ArrayList<>();
+    private boolean mIsFlushScheduled = false;
+
+    private LayoutRequestBatcher() {}
+
+    /**
+     * Marks `v` as needing layout in the current frame. Views that are marked multiple times are only laid out once.
+     * Call {@link #requestLayoutAfterCommit()} after marking all views.
+     */
+    void markDirty(View v) {
+        if (mDirtyViewSet.add(v)) {
+            mDirtyViews.add(v);
+        }
+    }
+
+    void requestLayoutAfterCommit() {
+        if (!mIsFlushScheduled && !mDirtyViews.isEmpty()) {
+            mIsFlushScheduled = true;
+            FrameDriver.getInstance().runAfterCommit(this);
+        }
+    }
+
+    @Override
+    public void run() {
+        mIsFlushScheduled = false;
+        for (int i = 0; i < mDirtyViews.size(); i++) {
+            View v = mDirtyViews.get(i);
+            if (ViewCompat.isInLayout(v)) {
+                // this view is already being laid out
+                continue;
+            }
+            addToSubtreeRoots(v);
+        }
+        for (int i = 0; i < mDirtyViews.size(); i++) {
+            View v = mDirtyViews.get(i);
+            if (ViewCompat.isInLayout(v)) {
+                continue;
+            }
+            // The layout pass only descends into views that are marked, so all views between the dirty view and the root need the mark.
+            // Once we reach a view that already has it, its parents have it as well.
+            View view = v;
+            while (!mSubtreeRoots.contains(view) && !view.isLayoutRequested()) {
+                view.forceLayout();
+                ViewParent parent = view.getParent();
+                if (!(parent instanceof View)) {
+                    break;
+                }
+                view = (View) parent;
+            }
+        }
+        for (int i = 0; i < mSubtreeRoots.size(); i++) {
+            mSubtreeRoots.get(i).requestLayout();
+        }
+        mDirtyViews.clear();
+        mDirtyViewSet.clear();
+        mSubtreeRoots.clear();
+    }
+
+    private void addToSubtreeRoots(View v) {
+        for (int i = 0; i < mSubtreeRoots.size(); i++) {
+            View commonAncestor = findCommonAncestor(mSubtreeRoots.get(i), v);
+            if (commonAncestor != null) {
+                mSubtreeRoots.set(i, commonAncestor);
+                return;
+            }
+        }
+        // not part of any hierarchy we've seen so far in this frame
+        mSubtreeRoots.add(v);
+    }
+
+    /**
+     * @return The nearest view that is an ancestor of (or equal to) both `a` and `b`, or null if they are in different hierarchies.
+     */
+    private static View findCommonAncestor(View a, View b) {
+        int depthA = getDepth(a);
+        int depthB = getDepth(b);
+        while (depthA > depthB) {
+            a = (View) a.getParent();
+            depthA--;
+        }
+        while (depthB > depthA) {
+            b = (View) b.getParent();
+            depthB--;
+        }
+        while (a != b) {
+            ViewParent parentA = a.getParent();
+            ViewParent parentB = b.getParent();
+            if (!(parentA instanceof View) || !(parentB instanceof View)) {
+                return null;
+            }
+            a = (View) parentA;
+            b = (View) parentB;
+        }
+        return a;
+    }
+
+    // the number of parents of `v` that are views
+    private static int getDepth(View v) {
+        int depth = 0;
+        ViewParent parent = v.getParent();
+        while (parent instanceof View) {
+            depth++;
+            parent = parent.getParent();
+        }
+        return depth;
+    }
+}
@@ -21,15 +21,20 @@ import android.view.View;
 
 import androidx.annotation.NonNull;
 
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 
 import at.wirecube.additiveanimations.additive_animator.animation_set.AnimationState;
+import at.wirecube.additiveanimations.additive_core.PropertyIdMap;
+import at.wirecube.additiveanimations.additive_core.PropertyRegistry;
+import at.wirecube.additiveanimations.additive_core.WeakIdentityMap;
+import at.wirecube.additive_animations.R;
 
 
 /**
@@ -43,18 +48,51 @@ public class RunningAnimationsManager<T> {
         Float queuedTargetValue = null;
     }
 
-    private static final Map<Object, RunningAnimationsManager> sStateManagers = new HashMap<>();
+    // Managers of views are stored in a tag of the view itself, this map is only used for all other kinds of targets.
+    // Targets are compared by identity (two equal data objects are still two different targets) and only held weakly,
+    // so a target whose animations never ended can still be garbage collected.
+    private static final WeakIdentityMap<Object, RunningAnimationsManager> sStateManagers = new WeakIdentityMap<>();
 
+    private static int sMaxLayersPerProperty = Integer.MAX_VALUE;
+
+    static void setMaxLayersPerProperty(int maxLayers) {
+        sMaxLayersPerProperty = maxLayers;
+    }
+
+    private static boolean sRetargetSprings = false;
+
+    static void setSpringRetargetingEnabled(boolean enabled) {
+        sRetargetSprings = enabled;
+    }
+
+    @SuppressWarnings("unchecked")
     static <T> RunningAnimationsManager<T> from(@NonNull T target) {
         if (target == null) {
             return null;
         }
-        RunningAnimationsManager<T> animator = sStateManagers.get(target);
-        if (animator == null) {
-            animator = new RunningAnimationsManager<T>(target);
-            sStateManagers.put(target, animator);
+        if (target instanceof View) {
+            View view = (View) target;
+            RunningAnimationsManager<T> manager = (RunningAnimationsManager<T>) view.getTag(R.id.additive_animations_running_animations_manager);
+            if (manager == null) {
+                manager = new RunningAnimationsManager<T>(target);
+                view.setTag(R.id.additive_animations_running_animations_manager, manager);
+            }
+            return manager;
+        }
+        RunningAnimationsManager<T> manager = sStateManagers.get(target);
+        if (manager == null) {
+            manager = new RunningAnimationsManager<T>(target);
+            sStateManagers.put(target, manager);
+        }
+        return manager;
+    }
+
+    private static void remove(Object target) {
+        if (target instanceof View) {
+            ((View) target).setTag(R.id.additive_animations_running_animations_manager, null);
+        } else {
+            sStateManagers.remove(target);
         }
-        return animator;
     }
 
     static AccumulatedAnimationValueManager getAccumulatedProperties(View v) {
@@ -63,70 +101,82 @@ public class RunningAnimationsManager<T> {
 
     private final AccumulatedAnimationValueManager mAccumulator = new AccumulatedAnimationValueManager();
 
-    private final T mAnimationTarget;
+    // Neither the target nor the accumulators are referenced strongly, otherwise sStateManagers would keep its keys alive.
+    // Running accumulators are referenced by the FrameDriver, queued ones by their animator.
+    private final WeakReference<T> mAnimationTarget;
     private boolean mUseHardwareLayer = false;
     private AnimationState<T> mCurrentState = null;
 
-    final Set<AdditiveAnimationAccumulator> mAdditiveAnimationAccumulators = new HashSet<>();
+    final Set<AdditiveAnimationAccumulator> mAdditiveAnimationAccumulators = Collections.newSetFromMap(new WeakHashMap<>());
 
-    private final Map<String, AnimationInfo> mAnimationInfos = new HashMap<>();
+    // indexed by property ID, see PropertyRegistry
+    private final PropertyIdMap<AnimationInfo> mAnimationInfos = new PropertyIdMap<>();
 
     private RunningAnimationsManager(T animationTarget) {
-        mAnimationTarget = animationTarget;
+        mAnimationTarget = new WeakReference<>(animationTarget);
     }
 
     public void setCurrentState(AnimationState<T> currentState) {
         this.mCurrentState = currentState;
     }
 
-    private AnimationInfo getAnimationInfo(String tag, boolean addIfNeeded) {
-        AnimationInfo info = mAnimationInfos.get(tag);
+    private AnimationInfo getAnimationInfo(int propertyId, boolean addIfNeeded) {
+        AnimationInfo info = mAnimationInfos.get(propertyId);
         if (info == null && addIfNeeded) {
             info = new AnimationInfo();
-            mAnimationInfos.put(tag, info);
+            mAnimationInfos.put(propertyId, info);
         }
         return info;
     }
 
-    void addAnimation(AdditiveAnimationAccumulator accumulator, AdditiveAnimation animation) {
+    void addAnimation(AdditiveAnimationAccumulator accumulator, AdditiveAnimation animation, int group) {
         // immediately add to our list of pending animators
         mAdditiveAnimationAccumulators.add(accumulator);
-        accumulator.addAnimation(animation);
-        getAnimationInfo(animation.getTag(), true).queuedTargetValue = animation.getTargetValue();
+        accumulator.addAnimation(animation, group);
+        getAnimationInfo(animation.getPropertyId(), true).queuedTargetValue = animation.getTargetValue();
     }
 
     void onAnimationAccumulatorEnd(AdditiveAnimationAccumulator accumulator, boolean didCancel) {
+        T target = mAnimationTarget.get();
+        if (target == null) {
+            return;
+        }
         // make sure to remove the accumulator to avoid memory leaks:
         mAdditiveAnimationAccumulators.remove(accumulator);
         removeStateManagerIfAccumulatorSetIsEmpty();
         boolean hasRunAnimationStateEndAction = false;
 
-        for (AdditiveAnimation<T> animation : accumulator.getAnimations(mAnimationTarget)) {
+        for (AdditiveAnimation<T> animation : accumulator.getAnimations(target)) {
             if (mCurrentState != null &&
                 mCurrentState.getAnimationEndAction() != null &&
                 !hasRunAnimationStateEndAction &&
                 mCurrentState.shouldRunEndListener(animation.getAssociatedAnimationState())
             ) {
                 hasRunAnimationStateEndAction = true;
-                mCurrentState.getAnimationEndAction().onEnd(mAnimationTarget, didCancel);
+                mCurrentState.getAnimationEndAction().onEnd(target, didCancel);
             }
 
             if (didCancel) {
                 continue;
             }
-            AnimationInfo info = getAnimationInfo(animation.getTag(), false);
+            AnimationInfo info = getAnimationInfo(animation.getPropertyId(), false);
             if (info == null) {
                 continue;
             }
             info.numAnimations = Math.max(info.numAnimations - 1, 0);
             if (info.numAnimations == 0) {
-                mAnimationInfos.remove(animation.getTag());
+                mAnimationInfos.remove(animation.getPropertyId());
+                mAccumulator.remove(animation.getPropertyId());
             }
         }
     }
 
     void onAnimationAccumulatorStart(AdditiveAnimationAccumulator accumulator) {
-        Collection<AdditiveAnimation> animations = accumulator.getAnimations(mAnimationTarget);
+        T target = mAnimationTarget.get();
+        if (target == null) {
+            return;
+        }
+        Collection<AdditiveAnimation> animations = accumulator.getAnimations(target);
         Set<AnimationState<T>> animationStatesForWhichStartActionHasBeenRun = new HashSet<>();
         for (AdditiveAnimation<T> animation : animations) {
             AnimationState<T> animationState = animation.getAssociatedAnimationState();
@@ -137,10 +187,10 @@ public class RunningAnimationsManager<T> {
             if (animationState.shouldRun(mCurrentState)) {
                 if (animationState.getAnimationStartAction() != null && !animationStatesForWhichStartActionHasBeenRun.contains(animationState)) {
                     animationStatesForWhichStartActionHasBeenRun.add(animationState);
-                    animationState.getAnimationStartAction().onStart(mAnimationTarget);
+                    animationState.getAnimationStartAction().onStart(target);
                 }
             } else {
-                accumulator.removeAnimation(animation.getTag(), animation.getTarget());
+                accumulator.removeAnimation(animation.getPropertyId(), animation.getTarget());
             }
         }
         if (accumulator.getAnimations().isEmpty()) {
@@ -148,9 +198,9 @@ public class RunningAnimationsManager<T> {
             removeStateManagerIfAccumulatorSetIsEmpty();
         } else {
             // only now are we expecting updates from this applier
-            if (mUseHardwareLayer && mAnimationTarget instanceof View) {
-                if (((View) mAnimationTarget).getLayerType() != View.LAYER_TYPE_HARDWARE) {
-                    ((View) mAnimationTarget).setLayerType(View.LAYER_TYPE_HARDWARE, null);
+            if (mUseHardwareLayer && target instanceof View) {
+                if (((View) target).getLayerType() != View.LAYER_TYPE_HARDWARE) {
+                    ((View) target).setLayerType(View.LAYER_TYPE_HARDWARE, null);
                 }
             }
         }
@@ -163,63 +213,149 @@ public class RunningAnimationsManager<T> {
      * This will also update the accumulator if it doesn't already contain an entry for this animation,
      * using the current property value (if a Property is available)
      */
-    void prepareAnimationStart(AdditiveAnimation<T> animation) {
-        // TODO: can we speed up this lookup?
-        AccumulatedAnimationValue av = mAccumulator.getAccumulatedAnimationValue(animation);
-
-        AnimationInfo info = getAnimationInfo(animation.getTag(), true);
-        if (getLastTargetValue(animation.getTag()) == null || info.numAnimations == 0) {
+    void prepareAnimationStart(AdditiveAnimationAccumulator accumulator, AdditiveAnimation<T> animation) {
+        AnimationInfo info = getAnimationInfo(animation.getPropertyId(), true);
+        AccumulatedAnimationValue av = mAccumulator.get(animation.getPropertyId());
+        if (av == null || info.lastTargetValue == null || info.numAnimations == 0) {
             // In case we don't currently have an animation on this property, let's make sure
             // the start value matches the current model value:
+            if (av == null) {
+                av = mAccumulator.create(animation);
+            }
             Float currentModelValue = getActualAnimationStartValue(animation);
             if (currentModelValue != null) {
                 animation.setStartValue(currentModelValue);
             }
             av.tempValue = animation.getStartValue();
         } else {
-            animation.setStartValue(getLastTargetValue(animation.getTag()));
+            animation.setStartValue(info.lastTargetValue);
         }
         if (animation.isBy()) {
             // by-animations have to calculate their target value after the actual start value has been computed.
             animation.setTargetValue(animation.getStartValue() + animation.getByValue());
         }
+        if (sRetargetSprings && info.numAnimations > 0 && animation.getTiming() instanceof AnimationTiming.Spring && animation.getPath() == null) {
+            replaceRunningSprings(accumulator, animation, av.tempValue, info);
+        }
+        if (info.numAnimations >= sMaxLayersPerProperty && animation.getPath() == null) {
+            // The new animation takes over whatever the collapsed layers still had to add, so the property neither jumps now
+            // nor ends up at a different value. The target value stays the same, only the distance to cover grows.
+            animation.setStartValue(animation.getStartValue() - collapseOldestLayers(accumulator, animation.getPropertyId(), info));
+        }
         animation.setAccumulatedValue(av);
         info.numAnimations++;
         info.lastTargetValue = animation.getTargetValue();
     }
 
+    /**
+     * Removes the oldest running animations of the property until there is room for one more layer.
+     *
+     * @return The sum of the deltas the removed animations would still have added.
+     */
+    private float collapseOldestLayers(AdditiveAnimationAccumulator newestAccumulator, int propertyId, AnimationInfo info) {
+        T target = mAnimationTarget.get();
+        float remainingDelta = 0f;
+        while (target != null && info.numAnimations >= sMaxLayersPerProperty) {
+            AdditiveAnimationAccumulator oldest = null;
+            for (AdditiveAnimationAccumulator accumulator : mAdditiveAnimationAccumulators) {
+                long startSequence = accumulator.getStartSequence();
+                if (accumulator != newestAccumulator && startSequence != 0 && accumulator.getAnimationCount(propertyId, target) > 0 &&
+                    (oldest == null || startSequence < oldest.getStartSequence())) {
+                    oldest = accumulator;
+                }
+            }
+            if (oldest == null) {
+                break;
+            }
+            info.numAnimations = Math.max(info.numAnimations - oldest.getAnimationCount(propertyId, target), 0);
+            remainingDelta += oldest.collapseAnimation(propertyId, target);
+            if (!oldest.hasAnimationsOf(target)) {
+                mAdditiveAnimationAccumulators.remove(oldest);
+            }
+        }
+        return remainingDelta;
+    }
+
+    /**
+     * Removes all running spring animations of the property. The new spring starts where they currently are and continues their motion.
+     * Running animations with other timings keep running (a tween has no velocity the spring could take over without a jolt),
+     * so the new spring only has to cover the distance they won't add anymore.
+     */
+    private void replaceRunningSprings(AdditiveAnimationAccumulator newestAccumulator, AdditiveAnimation animation, float currentValue, AnimationInfo info) {
+        T target = mAnimationTarget.get();
+        if (target == null) {
+            return;
+        }
+        int propertyId = animation.getPropertyId();
+        float velocity = 0f;
+        float remainingDelta = 0f;
+        for (AdditiveAnimationAccumulator accumulator : new ArrayList<>(mAdditiveAnimationAccumulators)) {
+            int count = accumulator.getAnimationCount(propertyId, target);
+            // accumulators that haven't started yet have not contributed anything so far
+            if (accumulator == newestAccumulator || accumulator.getStartSequence() == 0 || count == 0) {
+                continue;
+            }
+            velocity += accumulator.retargetAnimation(propertyId, target);
+            info.numAnimations = Math.max(info.numAnimations - count + accumulator.getAnimationCount(propertyId, target), 0);
+            remainingDelta += accumulator.getRemainingDelta(propertyId, target);
+            if (!accumulator.hasAnimationsOf(target)) {
+                mAdditiveAnimationAccumulators.remove(accumulator);
+            }
+        }
+        animation.setInitialVelocity(velocity);
+        animation.setStartValue(currentValue + remainingDelta);
+    }
+
     void cancelAllAnimations() {
+        T target = mAnimationTarget.get();
+        if (target == null) {
+            return;
+        }
         Collection<AdditiveAnimationAccumulator> accumulators = new HashSet<>(mAdditiveAnimationAccumulators);
         for (AdditiveAnimationAccumulator additiveAnimationAccumulator : accumulators) {
-            additiveAnimationAccumulator.cancel(mAnimationTarget);
+            additiveAnimationAccumulator.cancel(target);
         }
         mAdditiveAnimationAccumulators.clear();
         mAnimationInfos.clear();
-        sStateManagers.remove(mAnimationTarget);
+        mAccumulator.clear();
+        remove(target);
         // reset hardware layer
-        if (mUseHardwareLayer && mAnimationTarget instanceof View) {
-            ((View) mAnimationTarget).setLayerType(View.LAYER_TYPE_NONE, null);
+        if (mUseHardwareLayer && target instanceof View) {
+            ((View) target).setLayerType(View.LAYER_TYPE_NONE, null);
         }
     }
 
     void cancelAnimation(String propertyName) {
+        cancelAnimation(PropertyRegistry.find(propertyName));
+    }
+
+    void cancelAnimation(int propertyId) {
+        T target = mAnimationTarget.get();
+        if (target == null) {
+            return;
+        }
         List<AdditiveAnimationAccumulator> cancelledAccumulators = new ArrayList<>();
         for (AdditiveAnimationAccumulator accumulator : mAdditiveAnimationAccumulators) {
-            if (accumulator.removeAnimation(propertyName, mAnimationTarget)) {
+            if (accumulator.removeAnimation(propertyId, target)) {
                 cancelledAccumulators.add(accumulator);
             }
         }
-        mAnimationInfos.remove(propertyName);
-        mAdditiveAnimationAccumulators.removeAll(cancelledAccumulators);
+        mAnimationInfos.remove(propertyId);
+        mAccumulator.remove(propertyId);
+        // Set.removeAll() falls back to calling contains() on the list when the set is smaller, which would be quadratic.
+        for (int i = 0; i < cancelledAccumulators.size(); i++) {
+            mAdditiveAnimationAccumulators.remove(cancelledAccumulators.get(i));
+        }
         removeStateManagerIfAccumulatorSetIsEmpty();
     }
 
     private void removeStateManagerIfAccumulatorSetIsEmpty() {
-        if (mAdditiveAnimationAccumulators.isEmpty()) {
-            sStateManagers.remove(mAnimationTarget);
+        T target = mAnimationTarget.get();
+        if (target != null && mAdditiveAnimationAccumulators.isEmpty()) {
+            remove(target);
             // reset hardware layer
-            if (mUseHardwareLayer && mAnimationTarget instanceof View) {
-                ((View) mAnimationTarget).setLayerType(View.LAYER_TYPE_NONE, null);
+            if (mUseHardwareLayer && target instanceof View) {
+                ((View) target).setLayerType(View.LAYER_TYPE_NONE, null);
             }
         }
     }
@@ -231,7 +367,7 @@ public class RunningAnimationsManager<T> {
      * @return The value of the last <b>started</b> animation target for this property.
      */
     Float getLastTargetValue(String propertyName) {
-        AnimationInfo info = getAnimationInfo(propertyName, false);
+        AnimationInfo info = getAnimationInfo(PropertyRegistry.find(propertyName), false);
         if (info == null) {
             return null;
         }
@@ -245,7 +381,7 @@ public class RunningAnimationsManager<T> {
      * @return The last <i>queued</i> animation target for this property during then()-building, even before the animation has been started.
      */
     Float getQueuedPropertyValue(String propertyName) {
-        AnimationInfo info = getAnimationInfo(propertyName, false);
+        AnimationInfo info = getAnimationInfo(PropertyRegistry.find(propertyName), false);
         if (info == null) {
             return null;
         }
@@ -253,16 +389,22 @@ public class RunningAnimationsManager<T> {
     }
 
     Float getActualPropertyValue(Property<T, Float> property) {
-        Float lastTarget = getLastTargetValue(property.getName());
+        return getActualPropertyValue(PropertyRegistry.find(property.getName()), property);
+    }
+
+    private Float getActualPropertyValue(int propertyId, Property<T, Float> property) {
+        AnimationInfo info = getAnimationInfo(propertyId, false);
+        Float lastTarget = info == null ? null : info.lastTargetValue;
         if (lastTarget == null) {
-            lastTarget = property.get(mAnimationTarget);
+            T target = mAnimationTarget.get();
+            lastTarget = target == null ? null : property.get(target);
         }
         return lastTarget;
     }
 
     private Float getActualAnimationStartValue(AdditiveAnimation<T> animation) {
         if (animation.getProperty() != null) {
-            return getActualPropertyValue(animation.getProperty());
+            return getActualPropertyValue(animation.getPropertyId(), animation.getProperty());
         } else {
             // TODO: there should be a way for subclasses to implement the 'getting' of a custom value.
             return null;
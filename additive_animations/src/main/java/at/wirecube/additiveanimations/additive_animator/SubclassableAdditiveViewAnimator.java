@@ -6,14 +6,7 @@ import android.os.Build;
 import android.util.Property;
 import android.view.View;
 
-import androidx.core.view.ViewCompat;
-
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 
 import at.wirecube.additiveanimations.additive_animator.animation_set.AnimationState;
 import at.wirecube.additiveanimations.additive_animator.view_visibility.ViewVisibilityAnimation;
@@ -85,41 +78,22 @@ public abstract class SubclassableAdditiveViewAnimator<T extends SubclassableAdd
 
     @Override
     void applyChanges(List<AccumulatedAnimationValue<View>> accumulatedAnimations) {
-        Map<View, List<AccumulatedAnimationValue<View>>> unknownProperties = null;
-        Set<View> viewsToRequestLayoutFor = new HashSet<>(1);
-        for (AccumulatedAnimationValue<View> accumulatedAnimationValue : accumulatedAnimations) {
-            View targetView = accumulatedAnimationValue.animation.getTarget();
-            viewsToRequestLayoutFor.add(targetView);
-            if (accumulatedAnimationValue.animation.getProperty() != null) {
-                accumulatedAnimationValue.animation.getProperty().set(targetView, accumulatedAnimationValue.tempValue);
-            } else {
-                if (unknownProperties == null) {
-                    unknownProperties = new HashMap<>();
-                }
-                List<AccumulatedAnimationValue<View>> accumulatedValues = unknownProperties.get(targetView);
-                if (accumulatedValues == null) {
-                    accumulatedValues = new ArrayList<>();
-                    unknownProperties.put(targetView, accumulatedValues);
-                }
-                accumulatedValues.add(accumulatedAnimationValue);
-            }
+        // all paddings of a view are applied with a single setPadding() call per frame
+        PaddingProperties.beginBatch();
+        try {
+            super.applyChanges(accumulatedAnimations);
+        } finally {
+            PaddingProperties.endBatch();
         }
-
-        if (unknownProperties != null) {
-            for (View v : unknownProperties.keySet()) {
-                HashMap<String, Float> properties = new HashMap<>();
-                for (AccumulatedAnimationValue value : unknownProperties.get(v)) {
-                    properties.put(value.animation.getTag(), value.tempValue);
-                }
-                applyCustomProperties(properties, v);
-            }
+        if (mSkipRequestLayout) {
+            return;
         }
-
-        for (View v : viewsToRequestLayoutFor) {
-            if (!ViewCompat.isInLayout(v) && !mSkipRequestLayout) {
-                v.requestLayout();
-            }
+        // The layout of all views changed by any animator in this frame is requested once all of them have been applied.
+        LayoutRequestBatcher layoutRequestBatcher = LayoutRequestBatcher.getInstance();
+        for (int i = 0; i < accumulatedAnimations.size(); i++) {
+            layoutRequestBatcher.markDirty(accumulatedAnimations.get(i).animation.getTarget());
         }
+        layoutRequestBatcher.requestLayoutAfterCommit();
     }
 
     @Override
@@ -159,7 +133,7 @@ public abstract class SubclassableAdditiveViewAnimator<T extends SubclassableAdd
         mSkipRequestLayout = true;
         mWithLayer = true;
 
-        runIfParentIsInSameAnimationGroup(() -> mParent.withLayer());
+        runForOtherTargets(this::withLayer);
 
         return self();
     }
@@ -172,7 +146,7 @@ public abstract class SubclassableAdditiveViewAnimator<T extends SubclassableAdd
             mRunningAnimationsManager.setUseHardwareLayer(false);
         }
         mWithLayer = false;
-        runIfParentIsInSameAnimationGroup(() -> mParent.withoutLayer());
+        runForOtherTargets(this::withoutLayer);
         return self();
     }
 
@@ -263,7 +237,7 @@ public abstract class SubclassableAdditiveViewAnimator<T extends SubclassableAdd
         return animatePropertyBy(property, by, true);
     }
 
-    // Helper for animating rotation properties when we belong to an animation group.
+    // Helper for animating rotation properties when we animate multiple targets.
     // Because we compute a delta value for the current target, we can't simply let BaseAdditiveAnimator
     // handle the propagation of the update.
     private T animateRotationProperty(final Property<View, Float> property, final float target) {
@@ -273,8 +247,8 @@ public abstract class SubclassableAdditiveViewAnimator<T extends SubclassableAdd
             currentValue = getQueuedPropertyValue(property.getName());
         }
         float shortestDistance = AnimationUtils.shortestAngleBetween(currentValue, target);
-        runIfParentIsInSameAnimationGroup(() -> ((SubclassableAdditiveViewAnimator) mParent).animateRotationProperty(property, target));
-        return animate(createAnimation(property, currentValue + shortestDistance), false);
+        runForOtherTargets(() -> animateRotationProperty(property, target));
+        return animate(obtainAnimation(property, currentValue + shortestDistance, null), false);
     }
 
     public T alpha(float alpha) {
@@ -0,0 +1,49 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.additive_animator.clock;
+
+import android.view.Choreographer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The default {@link FrameClock}, which runs callbacks in sync with the display using the {@link Choreographer} of the main thread.
+ */
+public final class ChoreographerFrameClock implements FrameClock {
+
+    // The engine only ever posts a single callback, so this map stays tiny.
+    private final Map<FrameCallback, Choreographer.FrameCallback> mCallbacks = new HashMap<>(1);
+
+    @Override
+    public void postFrameCallback(FrameCallback callback) {
+        Choreographer.FrameCallback choreographerCallback = mCallbacks.get(callback);
+        if (choreographerCallback == null) {
+            choreographerCallback = callback::doFrame;
+            mCallbacks.put(callback, choreographerCallback);
+        }
+        Choreographer.getInstance().postFrameCallback(choreographerCallback);
+    }
+
+    @Override
+    public void removeFrameCallback(FrameCallback callback) {
+        Choreographer.FrameCallback choreographerCallback = mCallbacks.get(callback);
+        if (choreographerCallback != null) {
+            Choreographer.getInstance().removeFrameCallback(choreographerCallback);
+        }
+    }
+}
@@ -29,6 +29,9 @@ public abstract class FloatProperty<T> extends Property<T, Float> {
         void set(T object, float value);
     }
 
+    /**
+     * Wraps an existing property. Note that the values are still boxed when they are passed on to `baseProperty`.
+     */
     public static <T> FloatProperty<T> create(Property<T, Float> baseProperty) {
         return new FloatProperty<T>(baseProperty.getName()) {
             @Override
@@ -54,6 +57,16 @@ public abstract class FloatProperty<T> extends Property<T, Float> {
             public Float get(T object) {
                 return getter.get(object);
             }
+
+            @Override
+            public void setValue(T object, float value) {
+                setter.set(object, value);
+            }
+
+            @Override
+            public float getValue(T object) {
+                return getter.get(object);
+            }
         };
     }
 
@@ -63,4 +76,20 @@ public abstract class FloatProperty<T> extends Property<T, Float> {
 
     @Override
     public abstract void set(T object, Float value);
+
+    /**
+     * Sets the value without boxing it.
+     * The animator calls this method instead of {@link #set(Object, Float)} in every frame, so you should override it
+     * if you subclass FloatProperty (see {@link #create(String, Get, Set)}, which already does this).
+     */
+    public void setValue(T object, float value) {
+        set(object, value);
+    }
+
+    /**
+     * Returns the value without boxing it.
+     */
+    public float getValue(T object) {
+        return get(object);
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.helper;
+
+import android.animation.TimeInterpolator;
+import android.view.animation.Interpolator;
+
+import at.wirecube.additiveanimations.additive_core.InterpolationTable;
+import at.wirecube.additiveanimations.additive_core.WeakIdentityMap;
+
+/**
+ * An interpolator that evaluates a precomputed {@link InterpolationTable} of another interpolator.
+ * Interpolators are evaluated for every running animation in every frame, and some of them are expensive:
+ * {@code PathInterpolator} (which is also used for the default interpolator) does a binary search on every call.
+ * <p>
+ * Caches are shared by all users of the same interpolator instance, see {@link #forInterpolator(TimeInterpolator)}.
+ * The interpolator must be a pure function of its input, since it is only evaluated once when the cache is created.
+ */
+public final class InterpolatorCache implements Interpolator {
+
+    // Interpolators usually don't override equals()/hashCode(), so they are compared by identity.
+    // Only accessed from the main thread, like the rest of the animation state.
+    private static final WeakIdentityMap<TimeInterpolator, InterpolatorCache> sCaches = new WeakIdentityMap<>();
+
+    private final InterpolationTable mTable;
+
+    /**
+     * Returns the cache for the given interpolator with {@link InterpolationTable#DEFAULT_SAMPLE_COUNT} samples and
+     * {@link InterpolationTable.Refinement#LINEAR} refinement, which is accurate to about 1e-4 for the usual easing curves.
+     */
+    public static InterpolatorCache forInterpolator(TimeInterpolator interpolator) {
+        return forInterpolator(interpolator, InterpolationTable.DEFAULT_SAMPLE_COUNT, InterpolationTable.Refinement.LINEAR);
+    }
+
+    /**
+     * Returns the cache for the given interpolator, creating it if no cache with the requested sample count and refinement exists yet.
+     * Caches are returned as they are.
+     */
+    public static InterpolatorCache forInterpolator(TimeInterpolator interpolator, int sampleCount, InterpolationTable.Refinement refinement) {
+        if (interpolator instanceof InterpolatorCache) {
+            return (InterpolatorCache) interpolator;
+        }
+        InterpolatorCache cache = sCaches.get(interpolator);
+        if (cache == null || cache.mTable.getSampleCount() != sampleCount || cache.mTable.getRefinement() != refinement) {
+            // the table doesn't reference the interpolator, so the cache doesn't keep its weak key alive
+            cache = new InterpolatorCache(new InterpolationTable(interpolator::getInterpolation, sampleCount, refinement));
+            sCaches.put(interpolator, cache);
+        }
+        return cache;
+    }
+
+    private InterpolatorCache(InterpolationTable table) {
+        mTable = table;
+    }
+
+    /**
+     * @return The largest difference to the original interpolator that was found when the cache was created.
+     */
+    public float getMaxError() {
+        return mTable.getMaxError();
+    }
+
+    @Override
+    public float getInterpolation(float input) {
+        return mTable.evaluate(input);
+    }
+}
@@ -17,14 +17,14 @@
 package at.wirecube.additiveanimations.helper.evaluators;
 
 import android.graphics.Path;
-import android.graphics.PathMeasure;
 
 
 /**
  * A custom evaluator only to be used by {@link at.wirecube.additiveanimations.additive_animator.AdditiveAnimation}.
  * Use this class if you subclass {@link at.wirecube.additiveanimations.additive_animator.AdditiveAnimator} and want to
  * implement animating custom properties along paths.
- * It is NOT safe to share objects of this type among different animators since it holds state.
+ * The path is measured only once (see {@link PathLookupTable}), so evaluating it is cheap and allocation-free.
+ * Objects of this type can be shared by all animations along the same path.
  */
 public class PathEvaluator {
 
@@ -39,31 +39,26 @@ public class PathEvaluator {
         }
     }
 
-    private float lastEvaluatedFraction = -1;
-    private float[] lastPoint = new float[2];
-    private float lastAngle = 0;
+    private final int mSampleCount;
+    private Path mPath = null;
+    private PathLookupTable mLookupTable = null;
 
-    private float getResult(PathMode pathMode) {
-        switch (pathMode) {
-            case X:
-                return lastPoint[0];
-            case Y:
-                return lastPoint[1];
-            case ROTATION:
-                return lastAngle;
-        }
-        return 0;
+    public PathEvaluator() {
+        this(PathLookupTable.DEFAULT_SAMPLE_COUNT);
+    }
+
+    /**
+     * @param sampleCount The number of segments the path is divided into. Higher values follow the path more closely.
+     */
+    public PathEvaluator(int sampleCount) {
+        mSampleCount = sampleCount;
     }
 
     public float evaluate(float fraction, PathMode pathMode, Path path) {
-        if(fraction == lastEvaluatedFraction) {
-            return getResult(pathMode);
+        if (path != mPath) {
+            mLookupTable = PathLookupTable.forPath(path, mSampleCount);
+            mPath = path;
         }
-        float tan[] = new float[2];
-        PathMeasure pathMeasure = new PathMeasure(path, true);
-        pathMeasure.getPosTan(pathMeasure.getLength() * fraction, lastPoint, tan);
-        lastAngle = (float)(Math.atan2(tan[1], tan[0])*180.0/Math.PI);
-        lastEvaluatedFraction = fraction;
-        return getResult(pathMode);
+        return mLookupTable.evaluate(fraction, pathMode);
     }
 }
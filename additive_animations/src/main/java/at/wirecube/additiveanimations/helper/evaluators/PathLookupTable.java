@@ -0,0 +1,121 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.helper.evaluators;
+
+import android.graphics.Path;
+import android.graphics.PathMeasure;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * The position and tangent angle of a {@link Path}, sampled at evenly spaced distances along the path.
+ * Measuring a path means walking all of its segments, so this is done only once when the table is created.
+ * Evaluating a fraction afterwards is just an index computation and a linear interpolation between two samples.
+ * <p>
+ * Tables are immutable and shared by all animations along the same path, see {@link #forPath(Path, int)}.
+ * Changes made to a path after its table was created are not picked up.
+ */
+public final class PathLookupTable {
+
+    public static final int DEFAULT_SAMPLE_COUNT = 256;
+
+    // Paths don't override equals()/hashCode(), so they are compared by identity.
+    // Only accessed from the main thread, like the rest of the animation state.
+    private static final Map<Path, PathLookupTable> sTables = new WeakHashMap<>();
+
+    private static final int VALUES_PER_SAMPLE = 3; // x, y, angle
+
+    private final int mSampleCount;
+    // x, y and angle (in degrees) of every sample, interleaved
+    private final float[] mSamples;
+
+    /**
+     * Returns the table for the given path, creating it if no table with the requested sample count exists yet.
+     *
+     * @param sampleCount The number of segments the path is divided into. Higher values follow the path more closely.
+     */
+    public static PathLookupTable forPath(Path path, int sampleCount) {
+        PathLookupTable table = sTables.get(path);
+        if (table == null || table.mSampleCount != sampleCount) {
+            table = new PathLookupTable(path, sampleCount);
+            sTables.put(path, table);
+        }
+        return table;
+    }
+
+    private PathLookupTable(Path path, int sampleCount) {
+        if (sampleCount < 1) {
+            throw new IllegalArgumentException("A path needs at least one sample, but sampleCount was " + sampleCount);
+        }
+        mSampleCount = sampleCount;
+        mSamples = new float[(sampleCount + 1) * VALUES_PER_SAMPLE];
+        PathMeasure pathMeasure = new PathMeasure(path, true);
+        float length = pathMeasure.getLength();
+        float[] point = new float[2];
+        float[] tan = new float[2];
+        for (int i = 0; i <= sampleCount; i++) {
+            pathMeasure.getPosTan(length * i / sampleCount, point, tan);
+            int offset = i * VALUES_PER_SAMPLE;
+            mSamples[offset] = point[0];
+            mSamples[offset + 1] = point[1];
+            mSamples[offset + 2] = (float) (Math.atan2(tan[1], tan[0]) * 180.0 / Math.PI);
+        }
+    }
+
+    public int getSampleCount() {
+        return mSampleCount;
+    }
+
+    /**
+     * @param fraction The distance along the path, as a fraction of its length. Values outside of [0, 1] are clamped to the ends of the path.
+     */
+    public float evaluate(float fraction, PathEvaluator.PathMode pathMode) {
+        float position = Math.max(0f, Math.min(1f, fraction)) * mSampleCount;
+        int index = Math.min((int) position, mSampleCount - 1);
+        float t = position - index;
+        int offset = index * VALUES_PER_SAMPLE;
+        switch (pathMode) {
+            case Y:
+                offset += 1;
+                break;
+            case ROTATION:
+                return interpolateAngle(mSamples[offset + 2], mSamples[offset + 2 + VALUES_PER_SAMPLE], t);
+            default:
+                break;
+        }
+        float from = mSamples[offset];
+        return from + (mSamples[offset + VALUES_PER_SAMPLE] - from) * t;
+    }
+
+    // Interpolates along the shorter arc, so a tangent turning from 179 to -179 degrees doesn't spin the other way around.
+    private static float interpolateAngle(float from, float to, float t) {
+        float delta = to - from;
+        if (delta > 180f) {
+            delta -= 360f;
+        } else if (delta < -180f) {
+            delta += 360f;
+        }
+        float angle = from + delta * t;
+        if (angle > 180f) {
+            angle -= 360f;
+        } else if (angle <= -180f) {
+            angle += 360f;
+        }
+        return angle;
+    }
+}
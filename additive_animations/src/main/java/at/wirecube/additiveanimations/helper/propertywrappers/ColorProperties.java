@@ -19,7 +19,6 @@ package at.wirecube.additiveanimations.helper.propertywrappers;
 import android.graphics.drawable.ColorDrawable;
 import android.util.Property;
 import android.view.View;
-import android.view.ViewGroup;
 
 import at.wirecube.additiveanimations.helper.FloatProperty;
 
@@ -39,7 +38,12 @@ public class ColorProperties {
 
         @Override
         public void set(View object, Float value) {
-            object.setBackgroundColor(value.intValue());
+            setValue(object, value);
+        }
+
+        @Override
+        public void setValue(View object, float value) {
+            object.setBackgroundColor((int) value);
         }
     };
 
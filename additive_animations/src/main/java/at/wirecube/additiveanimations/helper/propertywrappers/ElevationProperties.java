@@ -24,16 +24,8 @@ import at.wirecube.additiveanimations.helper.FloatProperty;
 public class ElevationProperties {
 
     @SuppressWarnings("NewApi")
-    public static Property<View, Float> ELEVATION = new FloatProperty<View>("ELEVATION") {
-        @Override
-        public Float get(View object) {
-            return object.getElevation();
-        }
-
-        @Override
-        public void set(View object, Float value) {
-            object.setElevation(value);
-        }
-    };
+    public static Property<View, Float> ELEVATION = FloatProperty.create("ELEVATION",
+        View::getElevation,
+        View::setElevation);
 
 }
@@ -24,51 +24,23 @@ import at.wirecube.additiveanimations.helper.FloatProperty;
 
 public class MarginProperties {
 
-    public static Property<View, Float> MARGIN_LEFT = new FloatProperty<View>("MARGIN_LEFT") {
-        @Override
-        public Float get(View object) {
-            return (float) ((ViewGroup.MarginLayoutParams) object.getLayoutParams()).leftMargin;
-        }
+    public static Property<View, Float> MARGIN_LEFT = FloatProperty.create("MARGIN_LEFT",
+        view -> marginLayoutParams(view).leftMargin,
+        (view, value) -> marginLayoutParams(view).leftMargin = (int) value);
 
-        @Override
-        public void set(View object, Float value) {
-            ((ViewGroup.MarginLayoutParams) object.getLayoutParams()).leftMargin = value.intValue();
-        }
-    };
+    public static Property<View, Float> MARGIN_RIGHT = FloatProperty.create("MARGIN_RIGHT",
+        view -> marginLayoutParams(view).rightMargin,
+        (view, value) -> marginLayoutParams(view).rightMargin = (int) value);
 
-    public static Property<View, Float> MARGIN_RIGHT = new FloatProperty<View>("MARGIN_RIGHT") {
-        @Override
-        public Float get(View object) {
-            return (float) ((ViewGroup.MarginLayoutParams) object.getLayoutParams()).rightMargin;
-        }
+    public static Property<View, Float> MARGIN_TOP = FloatProperty.create("MARGIN_TOP",
+        view -> marginLayoutParams(view).topMargin,
+        (view, value) -> marginLayoutParams(view).topMargin = (int) value);
 
-        @Override
-        public void set(View object, Float value) {
-            ((ViewGroup.MarginLayoutParams) object.getLayoutParams()).rightMargin = value.intValue();
-        }
-    };
+    public static Property<View, Float> MARGIN_BOTTOM = FloatProperty.create("MARGIN_BOTTOM",
+        view -> marginLayoutParams(view).bottomMargin,
+        (view, value) -> marginLayoutParams(view).bottomMargin = (int) value);
 
-    public static Property<View, Float> MARGIN_TOP = new FloatProperty<View>("MARGIN_TOP") {
-        @Override
-        public Float get(View object) {
-            return (float) ((ViewGroup.MarginLayoutParams) object.getLayoutParams()).topMargin;
-        }
-
-        @Override
-        public void set(View object, Float value) {
-            ((ViewGroup.MarginLayoutParams) object.getLayoutParams()).topMargin = value.intValue();
-        }
-    };
-
-    public static Property<View, Float> MARGIN_BOTTOM = new FloatProperty<View>("MARGIN_BOTTOM") {
-        @Override
-        public Float get(View object) {
-            return (float) ((ViewGroup.MarginLayoutParams) object.getLayoutParams()).bottomMargin;
-        }
-
-        @Override
-        public void set(View object, Float value) {
-            ((ViewGroup.MarginLayoutParams) object.getLayoutParams()).bottomMargin = value.intValue();
-        }
-    };
+    private static ViewGroup.MarginLayoutParams marginLayoutParams(View view) {
+        return (ViewGroup.MarginLayoutParams) view.getLayoutParams();
+    }
 }
@@ -18,57 +18,120 @@ package at.wirecube.additiveanimations.helper.propertywrappers;
 
 import android.util.Property;
 import android.view.View;
-import android.view.ViewGroup;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import at.wirecube.additiveanimations.additive_core.FrameDriver;
 import at.wirecube.additiveanimations.helper.FloatProperty;
 
 public class PaddingProperties {
 
-    public static Property<View, Float> PADDING_LEFT = new FloatProperty<View>("PADDING_LEFT") {
-        @Override
-        public Float get(View object) {
-            return (float) object.getPaddingLeft();
-        }
+    private static final int LEFT = 0;
+    private static final int TOP = 1;
+    private static final int RIGHT = 2;
+    private static final int BOTTOM = 3;
 
-        @Override
-        public void set(View object, Float value) {
-            object.setPadding(value.intValue(), object.getPaddingTop(), object.getPaddingRight(), object.getPaddingBottom());
-        }
-    };
+    public static Property<View, Float> PADDING_LEFT = FloatProperty.create("PADDING_LEFT",
+        view -> getPadding(view, LEFT),
+        (view, value) -> setPadding(view, LEFT, (int) value));
 
-    public static Property<View, Float> PADDING_RIGHT = new FloatProperty<View>("PADDING_RIGHT") {
-        @Override
-        public Float get(View object) {
-            return (float) object.getPaddingRight();
-        }
+    public static Property<View, Float> PADDING_RIGHT = FloatProperty.create("PADDING_RIGHT",
+        view -> getPadding(view, RIGHT),
+        (view, value) -> setPadding(view, RIGHT, (int) value));
 
-        @Override
-        public void set(View object, Float value) {
-            object.setPadding(object.getPaddingLeft(), object.getPaddingTop(), value.intValue(), object.getPaddingBottom());
-        }
-    };
+    public static Property<View, Float> PADDING_TOP = FloatProperty.create("PADDING_TOP",
+        view -> getPadding(view, TOP),
+        (view, value) -> setPadding(view, TOP, (int) value));
 
-    public static Property<View, Float> PADDING_TOP = new FloatProperty<View>("PADDING_TOP") {
-        @Override
-        public Float get(View object) {
-            return (float) object.getPaddingTop();
+    public static Property<View, Float> PADDING_BOTTOM = FloatProperty.create("PADDING_BOTTOM",
+        view -> getPadding(view, BOTTOM),
+        (view, value) -> setPadding(view, BOTTOM, (int) value));
+
+    // Every View.setPadding() call requests layout and invalidates the view, so the paddings set while a batch is open
+    // are collected per view and applied with a single setPadding() call, see beginBatch().
+    private static final Map<View, int[]> sPendingPaddings = new IdentityHashMap<>();
+    // the keys of sPendingPaddings in insertion order, and unused padding arrays - both reused to avoid allocations
+    private static final List<View> sPendingViews = new ArrayList<>();
+    private static final List<int[]> sUnusedPaddings = new ArrayList<>();
+    private static final Runnable sApplyPendingPaddings = PaddingProperties::applyPendingPaddings;
+    private static int sBatchDepth = 0;
+    private static boolean sIsApplyScheduled = false;
+
+    /**
+     * Starts collecting the paddings that are set using the properties of this class, until the matching {@link #endBatch()}.
+     * Used by the animators around applying the values of a frame, so animating all four paddings of a view costs one
+     * setPadding() call per frame instead of four.
+     */
+    public static void beginBatch() {
+        sBatchDepth++;
+    }
+
+    /**
+     * Applies the paddings collected since {@link #beginBatch()} once all animations have committed the current frame
+     * (see {@link FrameDriver#runAfterCommit(Runnable)}), or right away when called outside of a frame.
+     */
+    public static void endBatch() {
+        sBatchDepth--;
+        if (sBatchDepth == 0 && !sIsApplyScheduled && !sPendingViews.isEmpty()) {
+            sIsApplyScheduled = true;
+            FrameDriver.getInstance().runAfterCommit(sApplyPendingPaddings);
         }
+    }
 
-        @Override
-        public void set(View object, Float value) {
-            object.setPadding(object.getPaddingLeft(), value.intValue(), object.getPaddingRight(), object.getPaddingBottom());
+    private static int getPadding(View view, int edge) {
+        if (!sPendingViews.isEmpty()) {
+            int[] pending = sPendingPaddings.get(view);
+            if (pending != null) {
+                return pending[edge];
+            }
+        }
+        switch (edge) {
+            case LEFT:
+                return view.getPaddingLeft();
+            case TOP:
+                return view.getPaddingTop();
+            case RIGHT:
+                return view.getPaddingRight();
+            default:
+                return view.getPaddingBottom();
         }
-    };
+    }
 
-    public static Property<View, Float> PADDING_BOTTOM = new FloatProperty<View>("PADDING_BOTTOM") {
-        @Override
-        public Float get(View object) {
-            return (float) object.getPaddingBottom();
+    private static void setPadding(View view, int edge, int value) {
+        int[] pending = sPendingViews.isEmpty() ? null : sPendingPaddings.get(view);
+        if (pending == null) {
+            if (sBatchDepth == 0) {
+                view.setPadding(
+                    edge == LEFT ? value : view.getPaddingLeft(),
+                    edge == TOP ? value : view.getPaddingTop(),
+                    edge == RIGHT ? value : view.getPaddingRight(),
+                    edge == BOTTOM ? value : view.getPaddingBottom());
+                return;
+            }
+            pending = sUnusedPaddings.isEmpty() ? new int[4] : sUnusedPaddings.remove(sUnusedPaddings.size() - 1);
+            pending[LEFT] = view.getPaddingLeft();
+            pending[TOP] = view.getPaddingTop();
+            pending[RIGHT] = view.getPaddingRight();
+            pending[BOTTOM] = view.getPaddingBottom();
+            sPendingPaddings.put(view, pending);
+            sPendingViews.add(view);
         }
+        // Outside of a batch, a view with pending paddings is still updated here, since the pending paddings are applied later.
+        pending[edge] = value;
+    }
 
-        @Override
-        public void set(View object, Float value) {
-            object.setPadding(object.getPaddingLeft(), object.getPaddingTop(), object.getPaddingRight(), value.intValue());
+    private static void applyPendingPaddings() {
+        sIsApplyScheduled = false;
+        for (int i = 0; i < sPendingViews.size(); i++) {
+            View view = sPendingViews.get(i);
+            int[] padding = sPendingPaddings.get(view);
+            view.setPadding(padding[LEFT], padding[TOP], padding[RIGHT], padding[BOTTOM]);
+            sUnusedPaddings.add(padding);
         }
-    };
+        sPendingViews.clear();
+        sPendingPaddings.clear();
+    }
 }
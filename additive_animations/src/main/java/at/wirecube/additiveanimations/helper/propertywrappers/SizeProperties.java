@@ -22,28 +22,12 @@ import android.view.View;
 import at.wirecube.additiveanimations.helper.FloatProperty;
 
 public class SizeProperties {
-    public static Property<View, Float> WIDTH = new FloatProperty<View>("VIEW_WIDTH") {
-        @Override
-        public Float get(View object) {
-            return (float) (object.getLayoutParams()).width;
-        }
+    public static Property<View, Float> WIDTH = FloatProperty.create("VIEW_WIDTH",
+        view -> view.getLayoutParams().width,
+        (view, value) -> view.getLayoutParams().width = (int) value);
 
-        @Override
-        public void set(View object, Float value) {
-            object.getLayoutParams().width = value.intValue();
-        }
-    };
-
-    public static Property<View, Float> HEIGHT = new FloatProperty<View>("VIEW_HEIGHT") {
-        @Override
-        public Float get(View object) {
-            return (float) (object.getLayoutParams()).height;
-        }
-
-        @Override
-        public void set(View object, Float value) {
-            object.getLayoutParams().height = value.intValue();
-        }
-    };
+    public static Property<View, Float> HEIGHT = FloatProperty.create("VIEW_HEIGHT",
+        view -> view.getLayoutParams().height,
+        (view, value) -> view.getLayoutParams().height = (int) value);
 
 }
@@ -0,0 +1,67 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.additive_animator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import at.wirecube.additiveanimations.helper.FloatProperty;
+
+@RunWith(RobolectricTestRunner.class)
+public class AdditiveFollowerTest {
+
+    private static final class Model {
+        float x;
+    }
+
+    private static final FloatProperty<Model> X = FloatProperty.create("X", model -> model.x, (model, value) -> model.x = value);
+
+    @Rule
+    public final ManualFrameClockRule frameClock = new ManualFrameClockRule();
+
+    @Test
+    public void firstFrameAlreadyMovesTowardsTheTarget() {
+        Model model = new Model();
+        AdditiveFollower<Model> follower = AdditiveFollower.of(model, X).setSmoothingDuration(150);
+
+        follower.updateTarget(100f);
+        frameClock.advanceFrames(1);
+
+        assertTrue(model.x > 0f);
+        assertTrue(model.x < 100f);
+    }
+
+    @Test
+    public void settlesAtTheLastTarget() {
+        Model model = new Model();
+        AdditiveFollower<Model> follower = AdditiveFollower.of(model, X).setSmoothingDuration(150);
+
+        follower.updateTarget(100f);
+        frameClock.advanceFrames(5);
+        follower.updateTarget(50f);
+        frameClock.advanceFrames(60);
+
+        assertFalse(follower.isFollowing());
+        assertEquals(50f, model.x, 0f);
+    }
+}
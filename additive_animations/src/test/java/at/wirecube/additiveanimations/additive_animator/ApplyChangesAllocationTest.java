@@ -0,0 +1,144 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.additive_animator;
+
+import static org.junit.Assert.assertEquals;
+
+import android.animation.ValueAnimator;
+import android.content.Context;
+import android.view.View;
+import android.widget.FrameLayout;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link SubclassableAdditiveViewAnimator#applyChanges(List)} runs in every frame, so a steady-state frame must not allocate:
+ * neither for batching paddings and layout requests, nor for the custom (tag-based) values passed to
+ * {@link BaseAdditiveAnimator#applyCustomProperties(ChangedPropertiesMap, Object)}.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class ApplyChangesAllocationTest {
+
+    private static final String LEVEL = "LEVEL";
+    private static final int TARGETS = 10;
+    private static final int MEASURED_FRAMES = 1000;
+
+    /**
+     * A view with a value that can only be animated through a tag.
+     */
+    private static final class LevelView extends View {
+        float level;
+
+        LevelView(Context context) {
+            super(context);
+        }
+    }
+
+    private static final class LevelAnimator extends SubclassableAdditiveViewAnimator<LevelAnimator> {
+        int appliedValueCount = 0;
+
+        LevelAnimator level(float level) {
+            LevelView view = (LevelView) getCurrentTarget();
+            return animate(new AdditiveAnimation<>(view, LEVEL, view.level, level));
+        }
+
+        @Override
+        protected LevelAnimator newInstance() {
+            return new LevelAnimator();
+        }
+
+        @Override
+        public Float getCurrentPropertyValue(String propertyName) {
+            return LEVEL.equals(propertyName) ? ((LevelView) getCurrentTarget()).level : null;
+        }
+
+        @Override
+        protected void applyCustomProperties(ChangedPropertiesMap tempProperties, View target) {
+            for (int i = 0; i < tempProperties.size(); i++) {
+                if (LEVEL.equals(tempProperties.getKey(i))) {
+                    ((LevelView) target).level = tempProperties.getFloat(i);
+                    appliedValueCount++;
+                }
+            }
+        }
+    }
+
+    @Rule
+    public final ManualFrameClockRule frameClock = new ManualFrameClockRule();
+
+    private static List<LevelView> createViews() {
+        Context context = RuntimeEnvironment.getApplication();
+        FrameLayout parent = new FrameLayout(context);
+        List<LevelView> views = new ArrayList<>();
+        for (int i = 0; i < TARGETS; i++) {
+            LevelView view = new LevelView(context);
+            parent.addView(view);
+            views.add(view);
+        }
+        return views;
+    }
+
+    @Test
+    public void appliesPaddingsAndCustomProperties() {
+        LevelView view = createViews().get(0);
+        AdditiveAnimator.animate(view, 100).padding(20).requestLayout().start();
+        new LevelAnimator().target(view).setDuration(100).level(50f).start();
+
+        frameClock.advanceFrames(10);
+
+        assertEquals(20, view.getPaddingLeft());
+        assertEquals(20, view.getPaddingTop());
+        assertEquals(20, view.getPaddingRight());
+        assertEquals(20, view.getPaddingBottom());
+        assertEquals(50f, view.level, 0f);
+    }
+
+    @Test
+    public void steadyStateFramesDoNotAllocate() {
+        List<LevelView> views = createViews();
+        LevelAnimator levelAnimator = new LevelAnimator();
+        for (int i = 0; i < TARGETS; i++) {
+            LevelView view = views.get(i);
+            AdditiveAnimator.animate(view, 300)
+                .padding(100 + i)
+                .requestLayout()
+                .setRepeatCount(ValueAnimator.INFINITE)
+                .setRepeatMode(ValueAnimator.REVERSE)
+                .start();
+            levelAnimator.target(view).level(50f + i);
+        }
+        levelAnimator.setDuration(300).setRepeatCount(ValueAnimator.INFINITE).setRepeatMode(ValueAnimator.REVERSE).start();
+
+        int appliedValueCount = levelAnimator.appliedValueCount;
+        long allocated = FrameAllocations.measure(frameClock, MEASURED_FRAMES);
+
+        // every frame has read the value of every view
+        assertEquals(appliedValueCount + (FrameAllocations.WARMUP_FRAMES + MEASURED_FRAMES) * TARGETS, levelAnimator.appliedValueCount);
+        assertEquals("bytes allocated over " + MEASURED_FRAMES + " frames", 0L, allocated);
+
+        for (LevelView view : views) {
+            BaseAdditiveAnimator.cancelAnimationsForObject(view);
+        }
+    }
+}
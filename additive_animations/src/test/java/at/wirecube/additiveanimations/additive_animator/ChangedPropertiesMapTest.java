@@ -0,0 +1,122 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.additive_animator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class ChangedPropertiesMapTest {
+
+    @Test
+    public void putFloatAddsAndOverwritesValues() {
+        ChangedPropertiesMap map = new ChangedPropertiesMap();
+        map.putFloat("a", 1f);
+        map.putFloat("b", 2f);
+        map.putFloat("a", 3f);
+
+        assertEquals(2, map.size());
+        assertEquals(3f, map.get("a"), 0f);
+        assertEquals(2f, map.get("b"), 0f);
+        assertTrue(map.containsKey("b"));
+        assertFalse(map.containsKey("c"));
+        assertNull(map.get("c"));
+    }
+
+    @Test
+    public void growsBeyondInitialCapacity() {
+        ChangedPropertiesMap map = new ChangedPropertiesMap();
+        for (int i = 0; i < 10; i++) {
+            map.putFloat("key" + i, i);
+        }
+
+        assertEquals(10, map.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, map.get("key" + i), 0f);
+        }
+    }
+
+    @Test
+    public void clearRemovesAllEntriesAndAllowsReuse() {
+        ChangedPropertiesMap map = new ChangedPropertiesMap();
+        map.putFloat("a", 1f);
+        map.putFloat("b", 2f);
+        map.clear();
+
+        assertEquals(0, map.size());
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey("a"));
+
+        map.putFloat("c", 3f);
+        assertEquals(1, map.size());
+        assertEquals(3f, map.get("c"), 0f);
+        assertFalse(map.containsKey("a"));
+    }
+
+    @Test
+    public void behavesLikeAMapForReaders() {
+        ChangedPropertiesMap map = new ChangedPropertiesMap();
+        map.putFloat("a", 1f);
+        map.putFloat("b", 2f);
+
+        Map<String, Float> expected = new HashMap<>();
+        expected.put("a", 1f);
+        expected.put("b", 2f);
+        // equals() and iteration go through entrySet()
+        assertEquals(expected, map);
+        assertEquals(expected, new HashMap<>(map));
+        assertEquals(expected.keySet(), map.keySet());
+    }
+
+    @Test
+    public void primitiveAccessorsReadTheValuesInInsertionOrder() {
+        ChangedPropertiesMap map = new ChangedPropertiesMap();
+        map.putFloat("a", 1f);
+        map.putFloat("b", 2f);
+        map.putFloat("a", 3f);
+
+        assertEquals(0, map.indexOf("a"));
+        assertEquals(1, map.indexOf("b"));
+        assertEquals(-1, map.indexOf("c"));
+        assertEquals("a", map.getKey(0));
+        assertEquals(3f, map.getFloat(0), 0f);
+        assertEquals("b", map.getKey(1));
+        assertEquals(2f, map.getFloat(1), 0f);
+        assertEquals(2f, map.getFloat("b", -1f), 0f);
+        assertEquals(-1f, map.getFloat("c", -1f), 0f);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void indexBeyondSizeIsRejected() {
+        ChangedPropertiesMap map = new ChangedPropertiesMap();
+        map.putFloat("a", 1f);
+        map.clear();
+        map.getFloat(0);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void isReadOnlyForReaders() {
+        ChangedPropertiesMap map = new ChangedPropertiesMap();
+        map.put("a", 1f);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.additive_animator;
+
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures how much the frames of running animations allocate, using the allocation counter of the current thread.
+ */
+final class FrameAllocations {
+
+    // until the JIT has compiled the frame path, the interpreter may allocate where compiled code wouldn't
+    static final int WARMUP_FRAMES = 50_000;
+
+    private FrameAllocations() {}
+
+    /**
+     * Advances the clock by `frames` frames after warming up.
+     * Skips the test if the JVM can't count allocations.
+     *
+     * @return The number of bytes allocated by the measured frames.
+     */
+    static long measure(ManualFrameClockRule frameClock, int frames) {
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().getId();
+
+        frameClock.advanceFrames(WARMUP_FRAMES);
+
+        // what measuring itself allocates, so it can be subtracted
+        long calibrationStart = threadBean.getThreadAllocatedBytes(threadId);
+        long calibrationEnd = threadBean.getThreadAllocatedBytes(threadId);
+        long measurementOverhead = calibrationEnd - calibrationStart;
+
+        long start = threadBean.getThreadAllocatedBytes(threadId);
+        frameClock.advanceFrames(frames);
+        return threadBean.getThreadAllocatedBytes(threadId) - start - measurementOverhead;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.additive_animator;
+
+import android.animation.ValueAnimator;
+import android.view.View;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import at.wirecube.additiveanimations.additive_core.PropertyRegistry;
+import at.wirecube.additiveanimations.helper.FloatProperty;
+import at.wirecube.additiveanimations.helper.propertywrappers.PaddingProperties;
+
+/**
+ * Benchmarks of the hot paths that live in the Android module, see {@link Microbenchmark}.
+ * The frame tick, cancellation and stagger paths of the core are covered by the JMH benchmarks of the `:benchmark` module.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class HotPathBenchmarkTest {
+
+    private static final int STAGGERED_TARGETS = 500;
+
+    private static final class Model {
+        float x;
+        float y;
+    }
+
+    private static final FloatProperty<Model> X = FloatProperty.create("X", model -> model.x, (model, value) -> model.x = value);
+    private static final FloatProperty<Model> Y = FloatProperty.create("Y", model -> model.y, (model, value) -> model.y = value);
+
+    private static final class ModelAnimator extends BaseAdditiveAnimator<ModelAnimator, Model> {
+        ModelAnimator x(float x) {
+            return property(x, X);
+        }
+
+        ModelAnimator y(float y) {
+            return property(y, Y);
+        }
+
+        @Override
+        protected ModelAnimator newInstance() {
+            return new ModelAnimator();
+        }
+
+        @Override
+        public Float getCurrentPropertyValue(String propertyName) {
+            return null;
+        }
+
+        @Override
+        public void onApplyChanges() {}
+    }
+
+    @Rule
+    public final ManualFrameClockRule frameClock = new ManualFrameClockRule();
+
+    @Before
+    public void setUp() {
+        Microbenchmark.assumeEnabled();
+    }
+
+    /**
+     * Looking up the values of all running properties of a view, which every animation does when it starts.
+     */
+    @Test
+    public void accumulatedValueLookup() {
+        View view = new View(RuntimeEnvironment.getApplication());
+        AdditiveAnimator.animate(view, 300).padding(100).setRepeatCount(ValueAnimator.INFINITE).start();
+        int[] propertyIds = {
+            PropertyRegistry.idFor(PaddingProperties.PADDING_LEFT.getName()),
+            PropertyRegistry.idFor(PaddingProperties.PADDING_TOP.getName()),
+            PropertyRegistry.idFor(PaddingProperties.PADDING_RIGHT.getName()),
+            PropertyRegistry.idFor(PaddingProperties.PADDING_BOTTOM.getName()),
+        };
+
+        Microbenchmark.run("accumulatedValueLookup", () -> {
+            AccumulatedAnimationValueManager values = RunningAnimationsManager.getAccumulatedProperties(view);
+            int found = 0;
+            for (int propertyId : propertyIds) {
+                if (values.get(propertyId) != null) {
+                    found++;
+                }
+            }
+            return found;
+        });
+
+        BaseAdditiveAnimator.cancelAnimationsForObject(view);
+    }
+
+    /**
+     * Starting two animations on a target whose properties are already animated. Ending them again is included,
+     * so the number of animations per property stays the same for every operation.
+     */
+    @Test
+    public void prepareAnimationStart() {
+        Model model = new Model();
+        new ModelAnimator().target(model).setDuration(300).x(100f).y(100f).setRepeatCount(ValueAnimator.INFINITE).start();
+        RunningAnimationsManager<Model> manager = RunningAnimationsManager.from(model);
+        AdditiveAnimationAccumulator accumulator = new AdditiveAnimationAccumulator(new ModelAnimator());
+        List<AdditiveAnimation<Model>> animations = Arrays.asList(
+            new AdditiveAnimation<>(model, X, model.x, 200f),
+            new AdditiveAnimation<>(model, Y, model.y, 200f)
+        );
+        for (AdditiveAnimation<Model> animation : animations) {
+            manager.addAnimation(accumulator, animation, 0);
+        }
+
+        Microbenchmark.run("prepareAnimationStart", () -> {
+            for (int i = 0; i < animations.size(); i++) {
+                manager.prepareAnimationStart(accumulator, animations.get(i));
+            }
+            manager.onAnimationAccumulatorEnd(accumulator, false);
+            return (int) animations.get(0).getStartValue();
+        });
+
+        BaseAdditiveAnimator.cancelAnimationsForObject(model);
+    }
+
+    /**
+     * Building (but not starting) an animator for {@link #STAGGERED_TARGETS} targets.
+     */
+    @Test
+    public void staggeredTargetsBuilder() {
+        List<Model> models = new ArrayList<>(STAGGERED_TARGETS);
+        for (int i = 0; i < STAGGERED_TARGETS; i++) {
+            models.add(new Model());
+        }
+
+        Microbenchmark.run("staggeredTargetsBuilder(" + STAGGERED_TARGETS + ")", () -> {
+            ModelAnimator animator = new ModelAnimator().targets(models, 10).x(100f).y(100f);
+            return System.identityHashCode(animator);
+        });
+    }
+}
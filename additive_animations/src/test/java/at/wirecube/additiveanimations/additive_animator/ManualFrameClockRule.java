@@ -0,0 +1,70 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.additive_animator;
+
+import org.junit.rules.ExternalResource;
+
+import at.wirecube.additiveanimations.additive_animator.clock.FrameClock;
+import at.wirecube.additiveanimations.additive_animator.clock.ManualFrameClock;
+import at.wirecube.additiveanimations.additive_core.FrameDriver;
+
+/**
+ * Drives all animations of a test with a {@link ManualFrameClock}.
+ * <p>
+ * The {@link FrameDriver} is shared by all tests, so after each test the clock keeps ticking until every animation
+ * has ended, and then the previous clock is restored. Tests must cancel animations that never end.
+ */
+final class ManualFrameClockRule extends ExternalResource {
+
+    // enough for any animation of the tests to end
+    private static final int MAX_FRAMES_AFTER_TEST = 10_000;
+
+    private final ManualFrameClock mClock = new ManualFrameClock();
+    private FrameClock mPreviousClock;
+
+    @Override
+    protected void before() {
+        mPreviousClock = FrameDriver.getInstance().getFrameClock();
+        BaseAdditiveAnimator.setFrameClock(mClock);
+    }
+
+    @Override
+    protected void after() {
+        FrameDriver frameDriver = FrameDriver.getInstance();
+        for (int i = 0; i < MAX_FRAMES_AFTER_TEST && frameDriver.getClientCount() > 0; i++) {
+            advanceFrames(1);
+        }
+        int remainingClients = frameDriver.getClientCount();
+        frameDriver.setFrameClock(mPreviousClock);
+        if (remainingClients > 0) {
+            throw new IllegalStateException(remainingClients + " animations were still running after the test.");
+        }
+    }
+
+    void advanceFrames(int frames) {
+        for (int i = 0; i < frames; i++) {
+            mClock.advanceBy(ManualFrameClock.FRAME_INTERVAL_60_FPS_NANOS);
+        }
+    }
+
+    /**
+     * @return The time of the last frame, in milliseconds.
+     */
+    long nowMs() {
+        return mClock.getFrameTimeNanos() / 1_000_000;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.additive_animator;
+
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.function.IntSupplier;
+
+/**
+ * A minimal benchmark harness for the code paths that need the Android module, which the JMH benchmarks of the
+ * `:benchmark` module can't load. Like JMH with the GC profiler, it reports the throughput and the bytes allocated per operation.
+ * <p>
+ * The benchmarks take a while, so they only run with `./gradlew :additive_animations:testDebugUnitTest -Pbenchmarks`.
+ */
+final class Microbenchmark {
+
+    static final String ENABLED_PROPERTY = "additive.benchmarks";
+
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int MEASURED_ITERATIONS = 5;
+    private static final long ITERATION_NANOS = 1_000_000_000L;
+    // operations between two checks of the clock
+    private static final int BATCH_SIZE = 100;
+
+    // the results of all operations end up here, so the JIT can't drop the work that computes them
+    private static volatile int sSink;
+
+    private Microbenchmark() {}
+
+    /**
+     * Skips the calling test unless benchmarks are enabled, or the JVM can't count allocations.
+     */
+    static void assumeEnabled() {
+        assumeTrue("benchmarks are disabled, run the tests with -Pbenchmarks", Boolean.getBoolean(ENABLED_PROPERTY));
+        assumeTrue(threadBean().isThreadAllocatedMemorySupported());
+    }
+
+    /**
+     * Runs `operation` repeatedly, first to warm it up and then to measure it, and prints the results.
+     * The operation returns any value that depends on its work, like a JMH benchmark method.
+     *
+     * @return The bytes allocated per operation in the measured iterations.
+     */
+    static double run(String name, IntSupplier operation) {
+        com.sun.management.ThreadMXBean threadBean = threadBean();
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().getId();
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            runIteration(operation);
+        }
+
+        long operations = 0;
+        long startBytes = threadBean.getThreadAllocatedBytes(threadId);
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            operations += runIteration(operation);
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        double bytesPerOperation = (threadBean.getThreadAllocatedBytes(threadId) - startBytes) / (double) operations;
+
+        double operationsPerSecond = operations * 1e9 / elapsedNanos;
+        System.out.println(String.format(Locale.ROOT, "%s: %.0f ops/s, %.1f B/op", name, operationsPerSecond, bytesPerOperation));
+        return bytesPerOperation;
+    }
+
+    private static long runIteration(IntSupplier operation) {
+        long operations = 0;
+        int sink = 0;
+        long end = System.nanoTime() + ITERATION_NANOS;
+        while (System.nanoTime() < end) {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                sink += operation.getAsInt();
+            }
+            operations += BATCH_SIZE;
+        }
+        sSink = sink;
+        return operations;
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        return (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.additive_animator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import android.animation.ValueAnimator;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import at.wirecube.additiveanimations.helper.FloatProperty;
+
+/**
+ * Spring animations are evaluated in every frame, so a steady-state frame must not allocate:
+ * the solver of each {@link AdditiveAnimation} is created once, not once per frame.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class SpringFrameAllocationTest {
+
+    private static final int TARGETS = 10;
+    private static final int MEASURED_FRAMES = 1000;
+
+    private static final class Model {
+        float x;
+        float y;
+    }
+
+    private static final FloatProperty<Model> X = FloatProperty.create("X", model -> model.x, (model, value) -> model.x = value);
+    private static final FloatProperty<Model> Y = FloatProperty.create("Y", model -> model.y, (model, value) -> model.y = value);
+
+    private static final class ModelAnimator extends BaseAdditiveAnimator<ModelAnimator, Model> {
+        int applyCount = 0;
+
+        ModelAnimator x(float x) {
+            return property(x, X);
+        }
+
+        ModelAnimator y(float y) {
+            return property(y, Y);
+        }
+
+        @Override
+        protected ModelAnimator newInstance() {
+            return new ModelAnimator();
+        }
+
+        @Override
+        public Float getCurrentPropertyValue(String propertyName) {
+            return null;
+        }
+
+        @Override
+        public void onApplyChanges() {
+            applyCount++;
+        }
+    }
+
+    @Rule
+    public final ManualFrameClockRule frameClock = new ManualFrameClockRule();
+
+    @Test
+    public void steadyStateSpringFramesDoNotAllocate() {
+        List<Model> models = new ArrayList<>();
+        ModelAnimator animator = new ModelAnimator().setSpring(300f, 0.5f);
+        for (int i = 0; i < TARGETS; i++) {
+            Model model = new Model();
+            models.add(model);
+            animator.target(model).x(100f + i).y(50f + i);
+        }
+        // the springs are never considered settled while the animation repeats, so every frame evaluates them
+        animator.setRepeatCount(ValueAnimator.INFINITE).setRepeatMode(ValueAnimator.REVERSE).start();
+
+        frameClock.advanceFrames(1);
+        int applyCount = animator.applyCount;
+        long allocated = FrameAllocations.measure(frameClock, MEASURED_FRAMES);
+
+        assertEquals(applyCount + FrameAllocations.WARMUP_FRAMES + MEASURED_FRAMES, animator.applyCount);
+        for (Model model : models) {
+            assertTrue(model.x != 0f && model.y != 0f);
+        }
+        assertEquals("bytes allocated over " + MEASURED_FRAMES + " frames", 0L, allocated);
+
+        for (Model model : models) {
+            BaseAdditiveAnimator.cancelAnimationsForObject(model);
+        }
+    }
+}
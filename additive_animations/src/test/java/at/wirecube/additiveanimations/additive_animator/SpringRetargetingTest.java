@@ -0,0 +1,116 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.additive_animator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import android.view.animation.LinearInterpolator;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import at.wirecube.additiveanimations.helper.FloatProperty;
+
+@RunWith(RobolectricTestRunner.class)
+public class SpringRetargetingTest {
+
+    // a critically damped spring is slightly short of its target at its settling duration
+    private static final float SPRING_END_TOLERANCE = 1f;
+
+    private static final class Model {
+        float x;
+    }
+
+    private static final FloatProperty<Model> X = FloatProperty.create("X", model -> model.x, (model, value) -> model.x = value);
+
+    private static final class ModelAnimator extends BaseAdditiveAnimator<ModelAnimator, Model> {
+        ModelAnimator x(float x) {
+            return property(x, X);
+        }
+
+        @Override
+        protected ModelAnimator newInstance() {
+            return new ModelAnimator();
+        }
+
+        @Override
+        public Float getCurrentPropertyValue(String propertyName) {
+            return null;
+        }
+
+        @Override
+        public void onApplyChanges() {
+        }
+    }
+
+    @Rule
+    public final ManualFrameClockRule frameClock = new ManualFrameClockRule();
+
+    @Before
+    public void setUp() {
+        BaseAdditiveAnimator.setSpringRetargetingEnabled(true);
+    }
+
+    @After
+    public void tearDown() {
+        BaseAdditiveAnimator.setSpringRetargetingEnabled(false);
+    }
+
+    @Test
+    public void springDoesNotStopARunningTween() {
+        Model model = new Model();
+        new ModelAnimator().target(model).setInterpolator(new LinearInterpolator()).setDuration(1000).x(100f).start();
+        frameClock.advanceFrames(20);
+        float previousValue = model.x;
+        frameClock.advanceFrames(1);
+        float tweenDelta = model.x - previousValue;
+
+        new ModelAnimator().target(model).setSpringWithDuration(300, 1f).x(0f).start();
+        previousValue = model.x;
+        frameClock.advanceFrames(1);
+
+        // the spring only starts moving in its second frame, the tween keeps moving the property until then
+        // (frame times are whole milliseconds, so consecutive frames are 16 or 17 ms apart)
+        assertEquals(tweenDelta, model.x - previousValue, 0.2f);
+        frameClock.advanceFrames(120);
+        assertEquals(0f, model.x, SPRING_END_TOLERANCE);
+    }
+
+    @Test
+    public void springTakesOverTheVelocityOfARunningSpring() {
+        Model model = new Model();
+        new ModelAnimator().target(model).setSpringWithDuration(1000, 1f).x(100f).start();
+        frameClock.advanceFrames(10);
+        float previousValue = model.x;
+        frameClock.advanceFrames(1);
+        float springDelta = model.x - previousValue;
+
+        new ModelAnimator().target(model).setSpringWithDuration(1000, 1f).x(0f).start();
+        previousValue = model.x;
+        frameClock.advanceFrames(2);
+
+        // still moving towards the old target
+        assertTrue(model.x - previousValue > 0.5f * springDelta);
+        frameClock.advanceFrames(120);
+        assertEquals(0f, model.x, SPRING_END_TOLERANCE);
+    }
+}
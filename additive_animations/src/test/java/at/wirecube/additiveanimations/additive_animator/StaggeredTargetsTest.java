@@ -0,0 +1,167 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.additive_animator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import at.wirecube.additiveanimations.helper.FloatProperty;
+
+@RunWith(RobolectricTestRunner.class)
+public class StaggeredTargetsTest {
+
+    private static final long STAGGER = 100;
+
+    // less than a single animation, so building must not copy the animations for every target
+    private static final int MAX_BUILD_BYTES_PER_TARGET = 32;
+
+    private static final class Model {
+        float x;
+        float y;
+    }
+
+    private static final FloatProperty<Model> X = FloatProperty.create("X", model -> model.x, (model, value) -> model.x = value);
+    private static final FloatProperty<Model> Y = FloatProperty.create("Y", model -> model.y, (model, value) -> model.y = value);
+
+    private static final class ModelAnimator extends BaseAdditiveAnimator<ModelAnimator, Model> {
+        boolean ended = false;
+
+        ModelAnimator x(float x) {
+            return property(x, X);
+        }
+
+        ModelAnimator xBy(float x) {
+            return property(x, X, true);
+        }
+
+        ModelAnimator y(float y) {
+            return property(y, Y);
+        }
+
+        ModelAnimator recordEnd() {
+            return addEndAction(wasCancelled -> ended = true);
+        }
+
+        @Override
+        protected ModelAnimator newInstance() {
+            return new ModelAnimator();
+        }
+
+        @Override
+        public Float getCurrentPropertyValue(String propertyName) {
+            return null;
+        }
+
+        @Override
+        public void onApplyChanges() {}
+    }
+
+    @Rule
+    public final ManualFrameClockRule frameClock = new ManualFrameClockRule();
+
+    private static List<Model> models(int count) {
+        List<Model> models = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            models.add(new Model());
+        }
+        return models;
+    }
+
+    @Test
+    public void zeroDurationAnimationsOfLaterTargetsKeepTheirStagger() {
+        List<Model> models = models(3);
+        ModelAnimator animator = new ModelAnimator().targets(models, STAGGER).setDuration(0).x(100f).recordEnd();
+
+        animator.start();
+        // well within the stagger of the second target
+        frameClock.advanceFrames(2);
+
+        assertEquals(100f, models.get(0).x, 0f);
+        assertEquals(0f, models.get(1).x, 0f);
+        assertEquals(0f, models.get(2).x, 0f);
+        assertFalse(animator.ended);
+
+        frameClock.advanceFrames(20);
+
+        for (Model model : models) {
+            assertEquals(100f, model.x, 0f);
+        }
+        assertTrue(animator.ended);
+    }
+
+    @Test
+    public void stationaryStaggeredAnimationsDoNotEndInsideStart() {
+        ModelAnimator animator = new ModelAnimator().targets(models(3), STAGGER).setDuration(100).x(0f).recordEnd();
+
+        animator.start();
+
+        assertFalse(animator.ended);
+    }
+
+    @Test
+    public void builderStepsApplyToAllTargetsInOrder() {
+        List<Model> models = models(3);
+        new ModelAnimator().targets(models, STAGGER).setDuration(100).x(50f).xBy(10f).y(20f).start();
+
+        frameClock.advanceFrames(40);
+
+        for (Model model : models) {
+            assertEquals(60f, model.x, 0f);
+            assertEquals(20f, model.y, 0f);
+        }
+    }
+
+    @Test
+    public void buildingDoesNotCopyTheAnimationsForEveryTarget() {
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        List<Model> fewTargets = models(100);
+        List<Model> manyTargets = models(1000);
+        for (int i = 0; i < 100; i++) {
+            build(fewTargets);
+            build(manyTargets);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long start = threadBean.getThreadAllocatedBytes(threadId);
+        build(fewTargets);
+        long fewTargetsBytes = threadBean.getThreadAllocatedBytes(threadId) - start;
+        start = threadBean.getThreadAllocatedBytes(threadId);
+        build(manyTargets);
+        long manyTargetsBytes = threadBean.getThreadAllocatedBytes(threadId) - start;
+
+        long bytesPerTarget = (manyTargetsBytes - fewTargetsBytes) / (manyTargets.size() - fewTargets.size());
+        assertTrue(bytesPerTarget + " bytes per target", bytesPerTarget <= MAX_BUILD_BYTES_PER_TARGET);
+    }
+
+    private static void build(List<Model> targets) {
+        // never started, so nothing runs after the test
+        new ModelAnimator().targets(targets, STAGGER).x(100f).y(100f).xBy(10f);
+    }
+}
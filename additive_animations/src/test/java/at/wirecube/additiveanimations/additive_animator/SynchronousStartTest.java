@@ -0,0 +1,95 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.additive_animator;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import at.wirecube.additiveanimations.helper.FloatProperty;
+
+/**
+ * Animations without a start delay apply their first frame inside start(), like ValueAnimator.start() does.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class SynchronousStartTest {
+
+    private static final class Model {
+        float x;
+    }
+
+    private static final FloatProperty<Model> X = FloatProperty.create("X", model -> model.x, (model, value) -> model.x = value);
+
+    private static final class ModelAnimator extends BaseAdditiveAnimator<ModelAnimator, Model> {
+        final List<String> events = new ArrayList<>();
+
+        ModelAnimator x(float x) {
+            return property(x, X);
+        }
+
+        ModelAnimator recordEvents() {
+            addUpdateListener(animation -> events.add("update"));
+            return addEndAction(wasCancelled -> events.add("end"));
+        }
+
+        @Override
+        protected ModelAnimator newInstance() {
+            return new ModelAnimator();
+        }
+
+        @Override
+        public Float getCurrentPropertyValue(String propertyName) {
+            return null;
+        }
+
+        @Override
+        public void onApplyChanges() {
+            events.add("apply");
+        }
+    }
+
+    @Rule
+    public final ManualFrameClockRule frameClock = new ManualFrameClockRule();
+
+    @Test
+    public void zeroDurationAnimationDispatchesItsFrameBeforeItEnds() {
+        Model model = new Model();
+        ModelAnimator animator = new ModelAnimator().target(model).setDuration(0).x(100f).recordEvents();
+
+        animator.start();
+
+        assertEquals(100f, model.x, 0f);
+        assertEquals(Arrays.asList("apply", "update", "end"), animator.events);
+    }
+
+    @Test
+    public void firstFrameIsDispatchedInsideStart() {
+        Model model = new Model();
+        ModelAnimator animator = new ModelAnimator().target(model).setDuration(100).x(100f).recordEvents();
+
+        animator.start();
+
+        assertEquals(Arrays.asList("apply", "update"), animator.events);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.additive_animator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import at.wirecube.additiveanimations.additive_animator.clock.ManualFrameClock;
+import at.wirecube.additiveanimations.additive_animator.sequence.AnimationSequence;
+import at.wirecube.additiveanimations.helper.FloatProperty;
+
+/**
+ * The delay in a sequence of the last animator of a then()-chain moves its whole chain.
+ * The delay of any other link moves that link and all links after it.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class ThenChainSequenceDelayTest {
+
+    private static final class Model {
+        float x;
+    }
+
+    private static final FloatProperty<Model> X = FloatProperty.create("X", model -> model.x, (model, value) -> model.x = value);
+
+    private static final class ModelAnimator extends BaseAdditiveAnimator<ModelAnimator, Model> {
+        ModelAnimator x(float x) {
+            return property(x, X);
+        }
+
+        @Override
+        protected ModelAnimator newInstance() {
+            return new ModelAnimator();
+        }
+
+        @Override
+        public Float getCurrentPropertyValue(String propertyName) {
+            return null;
+        }
+
+        @Override
+        public void onApplyChanges() {
+        }
+    }
+
+    @Rule
+    public final ManualFrameClockRule frameClock = new ManualFrameClockRule();
+
+    @Test
+    public void sequenceDelayMovesTheWholeChain() {
+        long[] startTimes = new long[3];
+        ModelAnimator first = new ModelAnimator().target(new Model()).setDuration(100).x(10f).addStartAction(() -> startTimes[0] = frameClock.nowMs());
+        ModelAnimator second = first.then().x(20f).addStartAction(() -> startTimes[1] = frameClock.nowMs());
+        ModelAnimator third = second.thenWithDelay(50).x(30f).addStartAction(() -> startTimes[2] = frameClock.nowMs());
+
+        third.setDelayInSequence(500);
+        third.start();
+        frameClock.advanceFrames(60);
+
+        assertStartedAt(500, startTimes[0]);
+        assertStartedAt(600, startTimes[1]);
+        assertStartedAt(650, startTimes[2]);
+    }
+
+    @Test
+    public void chainInASequenceStartsAfterThePreviousAnimation() {
+        long[] startTimes = new long[3];
+        ModelAnimator previous = new ModelAnimator().target(new Model()).setDuration(200).x(10f).addStartAction(() -> startTimes[0] = frameClock.nowMs());
+        ModelAnimator first = new ModelAnimator().target(new Model()).setDuration(100).x(10f).addStartAction(() -> startTimes[1] = frameClock.nowMs());
+        ModelAnimator second = first.then().x(20f).addStartAction(() -> startTimes[2] = frameClock.nowMs());
+
+        AnimationSequence sequence = AnimationSequence.playSequentially(previous, second);
+        assertEquals(400, sequence.getTotalDurationInSequence());
+        sequence.start();
+        frameClock.advanceFrames(60);
+
+        assertEquals(0, startTimes[0]);
+        assertStartedAt(200, startTimes[1]);
+        assertStartedAt(300, startTimes[2]);
+    }
+
+    @Test
+    public void sequenceDelayOfALinkMovesItAndAllLaterLinks() {
+        long[] startTimes = new long[3];
+        ModelAnimator first = new ModelAnimator().target(new Model()).setDuration(100).x(10f).addStartAction(() -> startTimes[0] = frameClock.nowMs());
+        ModelAnimator second = first.then().x(20f).addStartAction(() -> startTimes[1] = frameClock.nowMs());
+        ModelAnimator third = second.then().x(30f).addStartAction(() -> startTimes[2] = frameClock.nowMs());
+
+        second.setDelayInSequence(40);
+        third.start();
+        frameClock.advanceFrames(60);
+
+        assertEquals(0, startTimes[0]);
+        assertStartedAt(140, startTimes[1]);
+        assertStartedAt(240, startTimes[2]);
+    }
+
+    @Test
+    public void sequenceDelaysAlongTheChainAddUp() {
+        long[] startTimes = new long[2];
+        ModelAnimator first = new ModelAnimator().target(new Model()).setDuration(100).x(10f).addStartAction(() -> startTimes[0] = frameClock.nowMs());
+        ModelAnimator second = first.then().x(20f).addStartAction(() -> startTimes[1] = frameClock.nowMs());
+
+        first.setDelayInSequence(30);
+        second.setDelayInSequence(500);
+        second.start();
+        frameClock.advanceFrames(60);
+
+        assertStartedAt(530, startTimes[0]);
+        assertStartedAt(630, startTimes[1]);
+    }
+
+    // like with ValueAnimator, the delay is counted from the first frame after start(),
+    // and the animation starts in the first frame after the delay has passed
+    private static void assertStartedAt(long expectedMs, long actualMs) {
+        long twoFramesMs = 2 * ManualFrameClock.FRAME_INTERVAL_60_FPS_NANOS / 1_000_000 + 1;
+        assertTrue("expected to start at " + expectedMs + "ms, but started at " + actualMs + "ms",
+            actualMs >= expectedMs && actualMs <= expectedMs + twoFramesMs);
+    }
+}
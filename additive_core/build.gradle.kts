@@ -0,0 +1,103 @@
+import java.util.Properties
+
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+// Platform-neutral animation engine (frame driver, timing, accumulation, spring physics and sequences).
+// This module must not depend on the Android SDK, so it can be used by JVM tests, benchmarks and non-View renderers.
+plugins {
+    id("java-library")
+    id("org.jetbrains.kotlin.jvm")
+    id("maven-publish")
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_17
+    targetCompatibility = JavaVersion.VERSION_17
+    withSourcesJar()
+    withJavadocJar()
+}
+
+kotlin {
+    compilerOptions {
+        jvmTarget.set(org.jetbrains.kotlin.gradle.dsl.JvmTarget.JVM_17)
+    }
+}
+
+dependencies {
+    testImplementation("junit:junit:4.13.2")
+}
+
+publishing {
+    publications {
+        create<MavenPublication>("release") {
+            from(components["java"])
+
+            groupId = "at.wirecube"
+            artifactId = "additive_core"
+            version = "1.11.0"
+
+            pom {
+                name.set("Additive Animations Core")
+                description.set("Platform-neutral engine of the additive animations library.")
+                url.set("https://github.com/davidganster/android_additive_animations")
+
+                licenses {
+                    license {
+                        name.set("The Apache Software License, Version 2.0")
+                        url.set("http://www.apache.org/licenses/LICENSE-2.0.txt")
+                    }
+                }
+
+                developers {
+                    developer {
+                        id.set("davidganster")
+                        name.set("David Ganster")
+                    }
+                }
+
+                scm {
+                    connection.set("scm:git@github.com/davidganster/android_additive_animations")
+                    developerConnection.set("scm:git@github.com/davidganster/android_additive_animations")
+                    url.set("https://github.com/davidganster/android_additive_animations")
+                }
+            }
+        }
+    }
+
+    repositories {
+        maven {
+            name = "WirecubeNexus"
+            url = uri("https://nexus.wirecube.at/repository/shopreme-core-android/")
+            // same credentials as the additive_animations module, loaded from local.properties:
+            val localProperties = project.rootProject.file("local.properties")
+            if (!localProperties.exists()) {
+                return@maven
+            } else {
+                val properties = Properties()
+                properties.load(localProperties.inputStream())
+                val username = properties.getProperty("nexus.username")
+                val password = properties.getProperty("nexus.password")
+                if (username != null && password != null) {
+                    credentials {
+                        this.username = username
+                        this.password = password
+                    }
+                }
+            }
+        }
+    }
+}
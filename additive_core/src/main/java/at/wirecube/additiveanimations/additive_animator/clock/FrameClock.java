@@ -0,0 +1,45 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.additive_animator.clock;
+
+/**
+ * The source of frame times for all additive animations.
+ * On Android, frames are driven by the {@code Choreographer} by default (see {@code ChoreographerFrameClock}).
+ * Use {@link ManualFrameClock} to drive animations deterministically, for example in tests or benchmarks.
+ * <p>
+ * The clock is set globally using {@code BaseAdditiveAnimator.setFrameClock(FrameClock)} or
+ * {@link at.wirecube.additiveanimations.additive_core.FrameDriver#setFrameClock(FrameClock)}.
+ */
+public interface FrameClock {
+
+    interface FrameCallback {
+        /**
+         * @param frameTimeNanos The time at which the frame started, in nanoseconds. Only differences between frame times are meaningful.
+         */
+        void doFrame(long frameTimeNanos);
+    }
+
+    /**
+     * Schedules the callback to be run once, at the next frame.
+     */
+    void postFrameCallback(FrameCallback callback);
+
+    /**
+     * Removes a previously posted callback. Does nothing if the callback isn't scheduled.
+     */
+    void removeFrameCallback(FrameCallback callback);
+}
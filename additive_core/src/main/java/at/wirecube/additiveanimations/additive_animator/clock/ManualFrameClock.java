@@ -0,0 +1,117 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.additive_animator.clock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link FrameClock} which only produces frames when told to.
+ * Frames are not tied to the display, so thousands of frames can be simulated per second without a device,
+ * which makes this clock useful for tests and benchmarks:
+ * <p>
+ * <code>
+ * ManualFrameClock clock = new ManualFrameClock();<br/>
+ * BaseAdditiveAnimator.setFrameClock(clock);<br/>
+ * // ... start animations ...<br/>
+ * clock.advanceFrames(60, ManualFrameClock.FRAME_INTERVAL_60_FPS_NANOS);
+ * </code>
+ */
+public class ManualFrameClock implements FrameClock {
+
+    public static final long FRAME_INTERVAL_60_FPS_NANOS = 16_666_667L;
+
+    private final List<FrameCallback> mCallbacks = new ArrayList<>();
+    // callbacks are swapped into this list before running them, so callbacks posted during a frame run in the next frame
+    private final List<FrameCallback> mRunningCallbacks = new ArrayList<>();
+    private long mFrameTimeNanos;
+
+    public ManualFrameClock() {
+        this(0);
+    }
+
+    public ManualFrameClock(long startTimeNanos) {
+        mFrameTimeNanos = startTimeNanos;
+    }
+
+    @Override
+    public void postFrameCallback(FrameCallback callback) {
+        mCallbacks.add(callback);
+    }
+
+    @Override
+    public void removeFrameCallback(FrameCallback callback) {
+        mCallbacks.remove(callback);
+    }
+
+    /**
+     * @return The time of the last frame, in nanoseconds.
+     */
+    public long getFrameTimeNanos() {
+        return mFrameTimeNanos;
+    }
+
+    /**
+     * @return true if a callback is waiting for the next frame.
+     */
+    public boolean hasPendingFrame() {
+        return !mCallbacks.isEmpty();
+    }
+
+    /**
+     * Advances the time by the given amount and runs all callbacks which were posted before this call.
+     */
+    public void advanceBy(long deltaNanos) {
+        if (deltaNanos < 0) {
+            throw new IllegalArgumentException("Frame time cannot go backwards, but delta was " + deltaNanos);
+        }
+        mFrameTimeNanos += deltaNanos;
+        // no addAll(), which would copy the callbacks into a temporary array every frame
+        for (int i = 0; i < mCallbacks.size(); i++) {
+            mRunningCallbacks.add(mCallbacks.get(i));
+        }
+        mCallbacks.clear();
+        for (int i = 0; i < mRunningCallbacks.size(); i++) {
+            mRunningCallbacks.get(i).doFrame(mFrameTimeNanos);
+        }
+        mRunningCallbacks.clear();
+    }
+
+    /**
+     * Runs the given number of frames, each one {@code frameIntervalNanos} after the previous one.
+     */
+    public void advanceFrames(int frameCount, long frameIntervalNanos) {
+        for (int i = 0; i < frameCount; i++) {
+            advanceBy(frameIntervalNanos);
+        }
+    }
+
+    /**
+     * Keeps producing frames until no more callbacks are posted (i.e. all animations have ended) or
+     * {@code maxFrames} frames have been run.
+     *
+     * @return The number of frames that were run.
+     */
+    public int runUntilIdle(long frameIntervalNanos, int maxFrames) {
+        int frames = 0;
+        while (hasPendingFrame() && frames < maxFrames) {
+            advanceBy(frameIntervalNanos);
+            frames++;
+        }
+        return frames;
+    }
+}
@@ -0,0 +1,74 @@
+package at.wirecube.additiveanimations.additive_animator.sequence
+
+abstract class AnimationSequence {
+
+    abstract fun start()
+    abstract fun setDelayInSequence(delay: Long)
+    abstract fun getTotalDurationInSequence(): Long
+
+    /**
+     * The delay last set with [setDelayInSequence].
+     * Override this if [getTotalDurationInSequence] includes that delay, so the duration of this animation can be measured without it.
+     */
+    open fun getDelayInSequence(): Long = 0
+
+    private var timeline: AnimationTimeline? = null
+
+    /**
+     * Walks this sequence once and resolves the start offset of every animation in it.
+     * The result is cached, so the sequences and animations it contains must not be changed afterwards.
+     * Called by [start] and [getTotalDurationInSequence] of the sequences created by the factory methods below,
+     * so starting a sequence of any depth visits every animation once, even if its duration was queried before.
+     * Compiling doesn't change the animations; their delays in the sequence are only set when the timeline is started.
+     */
+    fun compile(): AnimationTimeline {
+        var timeline = this.timeline
+        if (timeline == null) {
+            val builder = AnimationTimeline.Builder()
+            val duration = appendTo(builder, 0)
+            timeline = builder.build(duration)
+            this.timeline = timeline
+        }
+        return timeline
+    }
+
+    /**
+     * Adds the animations of this sequence to `builder`, starting at `startOffset`.
+     * @return The duration of this sequence, not including `startOffset`.
+     */
+    internal open fun appendTo(builder: AnimationTimeline.Builder, startOffset: Long): Long {
+        builder.add(this, startOffset)
+        // the duration in the sequence includes the delay in the sequence, which is only set at start()
+        return getTotalDurationInSequence() - getDelayInSequence()
+    }
+
+    companion object {
+        @JvmStatic
+        fun playTogether(vararg animations: AnimationSequence): AnimationSequence {
+            return PlayTogetherAnimationSequence(animations.toList())
+        }
+
+        @JvmStatic
+        fun playTogether(animations: List<AnimationSequence>): AnimationSequence {
+            return PlayTogetherAnimationSequence(animations)
+        }
+
+        @JvmStatic
+        fun playSequentially(vararg animations: AnimationSequence): AnimationSequence {
+            return PlaySequentiallyAnimationSequence(animations.toList())
+        }
+
+        @JvmStatic
+        fun playSequentially(animations: List<AnimationSequence>): AnimationSequence {
+            return PlaySequentiallyAnimationSequence(animations)
+        }
+
+        @JvmStatic
+        fun playWithDelayBetweenAnimations(stagger: Long, vararg animations: AnimationSequence): AnimationSequence {
+            return PlayWithStaggerAnimationSequence(stagger, *animations)
+        }
+    }
+}
+
+
+
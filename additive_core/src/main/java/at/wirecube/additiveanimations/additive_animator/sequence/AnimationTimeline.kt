@@ -0,0 +1,49 @@
+package at.wirecube.additiveanimations.additive_animator.sequence
+
+/**
+ * The flattened form of an [AnimationSequence] tree, see [AnimationSequence.compile]:
+ * every animation that isn't a playTogether/playSequentially/playWithDelayBetweenAnimations sequence itself,
+ * together with its start offset relative to the start of the whole tree.
+ */
+class AnimationTimeline private constructor(
+    private val animations: Array<AnimationSequence>,
+    private val startOffsets: LongArray,
+    /** The time from the start of the timeline until its last animation ends. */
+    val totalDuration: Long
+) {
+
+    val size: Int
+        get() = animations.size
+
+    fun getAnimation(index: Int): AnimationSequence = animations[index]
+
+    fun getStartOffset(index: Int): Long = startOffsets[index]
+
+    /**
+     * Starts every animation of the timeline, `delay` ms after now plus its start offset.
+     */
+    fun start(delay: Long) {
+        for (i in animations.indices) {
+            val animation = animations[i]
+            animation.setDelayInSequence(startOffsets[i] + delay)
+            animation.start()
+        }
+    }
+
+    internal class Builder {
+        private val animations = ArrayList<AnimationSequence>()
+        private var startOffsets = LongArray(16)
+
+        fun add(animation: AnimationSequence, startOffset: Long) {
+            if (animations.size == startOffsets.size) {
+                startOffsets = startOffsets.copyOf(startOffsets.size * 2)
+            }
+            startOffsets[animations.size] = startOffset
+            animations.add(animation)
+        }
+
+        fun build(totalDuration: Long): AnimationTimeline {
+            return AnimationTimeline(animations.toTypedArray(), startOffsets.copyOf(animations.size), totalDuration)
+        }
+    }
+}
@@ -7,24 +7,26 @@ internal class PlaySequentiallyAnimationSequence(
     private var delay: Long = 0
 
     override fun start() {
-        var totalDelay: Long = 0
-        for (sequence in animations) {
-            sequence.setDelayInSequence(totalDelay + delay)
-            totalDelay += sequence.getTotalDurationInSequence()
-            sequence.start()
-        }
+        compile().start(delay)
     }
 
     override fun setDelayInSequence(delay: Long) {
         this.delay = delay
     }
 
+    override fun getDelayInSequence(): Long {
+        return delay
+    }
+
     override fun getTotalDurationInSequence(): Long {
-        var totalDelay = delay
+        return compile().totalDuration + delay
+    }
+
+    override fun appendTo(builder: AnimationTimeline.Builder, startOffset: Long): Long {
+        var totalDelay: Long = 0
         for (sequence in animations) {
-            totalDelay += sequence.getTotalDurationInSequence()
+            totalDelay += sequence.appendTo(builder, startOffset + totalDelay)
         }
-        return totalDelay + delay
+        return totalDelay
     }
 }
-
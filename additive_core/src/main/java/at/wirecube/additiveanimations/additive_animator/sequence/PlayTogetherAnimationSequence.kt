@@ -7,25 +7,29 @@ class PlayTogetherAnimationSequence internal constructor(
     private var delayInSequence: Long = 0
 
     override fun start() {
-        for (sequence in animations) {
-            sequence.setDelayInSequence(delayInSequence)
-            sequence.start()
-        }
+        compile().start(delayInSequence)
     }
 
     override fun setDelayInSequence(delay: Long) {
         this.delayInSequence = delay
     }
 
+    override fun getDelayInSequence(): Long {
+        return delayInSequence
+    }
+
     override fun getTotalDurationInSequence(): Long {
+        return compile().totalDuration + delayInSequence
+    }
+
+    override fun appendTo(builder: AnimationTimeline.Builder, startOffset: Long): Long {
         var longestDuration: Long = 0
         for (sequence in animations) {
-            val duration = sequence.getTotalDurationInSequence()
+            val duration = sequence.appendTo(builder, startOffset)
             if (duration > longestDuration) {
                 longestDuration = duration
             }
         }
-        return longestDuration + delayInSequence
+        return longestDuration
     }
 }
-
@@ -9,29 +9,31 @@ class PlayWithStaggerAnimationSequence(
     private var delayInSequence: Long = 0
 
     override fun start() {
-        var totalDelay: Long = 0
-        for (sequence in animations) {
-            sequence.setDelayInSequence(totalDelay + delayInSequence)
-            totalDelay += stagger
-            sequence.start()
-        }
+        compile().start(delayInSequence)
     }
 
     override fun setDelayInSequence(delay: Long) {
         this.delayInSequence = delay
     }
 
+    override fun getDelayInSequence(): Long {
+        return delayInSequence
+    }
+
     override fun getTotalDurationInSequence(): Long {
+        return compile().totalDuration + delayInSequence
+    }
+
+    override fun appendTo(builder: AnimationTimeline.Builder, startOffset: Long): Long {
         var longestDuration: Long = 0
         var currentStagger: Long = 0
         for (sequence in animations) {
-            val duration = sequence.getTotalDurationInSequence() + currentStagger
+            val duration = sequence.appendTo(builder, startOffset + currentStagger) + currentStagger
             if (duration > longestDuration) {
                 longestDuration = duration
             }
             currentStagger += stagger
         }
-        return longestDuration + delayInSequence
+        return longestDuration
     }
 }
-
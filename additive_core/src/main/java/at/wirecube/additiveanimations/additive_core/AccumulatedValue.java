@@ -0,0 +1,34 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.additive_core;
+
+/**
+ * The value all additive layers animating the same property of the same target add their deltas to.
+ */
+public class AccumulatedValue {
+
+    public float tempValue = 0f;
+
+    /**
+     * Set while {@link #tempValue} has changed in the current frame but hasn't been applied to the target yet.
+     */
+    public boolean isDirty = false;
+
+    public final void addDelta(float delta) {
+        tempValue += delta;
+    }
+}
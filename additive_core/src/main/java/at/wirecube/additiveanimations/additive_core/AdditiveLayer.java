@@ -0,0 +1,548 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.additive_core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A set of animations that share the same timing. Each frame, every animation adds the difference between its current and
+ * its previous value to the {@link AccumulatedValue} it is bound to. This is what makes the animations additive:
+ * all layers animating the same property contribute to the same accumulated value.
+ *
+ * @param <S> The type of the animations in this layer.
+ * @param <A> The type of accumulated value the animations are bound to.
+ */
+public class AdditiveLayer<S extends AdditiveLayer.ValueSource, A extends AccumulatedValue> {
+
+    /**
+     * Evaluates an animation at a given progress.
+     */
+    public interface ValueSource {
+        float evaluateAt(float progress);
+
+        /**
+         * Whether {@link #evaluateAt(float)} is a plain linear interpolation between its values at progress 0 and 1.
+         * Linear animations don't need to be evaluated one by one in a {@link Storage#PACKED} layer.
+         * The result must not change after the animation has been bound to its accumulated value.
+         */
+        default boolean isLinear() {
+            return false;
+        }
+
+        /**
+         * Whether the animation has come to rest at the given progress, so that evaluating it at any later progress
+         * would not visibly change its value anymore. Only physics-based animations can settle before the end of their duration.
+         */
+        default boolean isSettledAt(float progress) {
+            return false;
+        }
+    }
+
+    /**
+     * Receives the accumulated values that changed in a frame and writes them to their targets.
+     */
+    public interface Applier<A> {
+        void apply(List<A> changedValues);
+    }
+
+    /**
+     * How a layer stores the per-frame state of its animations.
+     */
+    public enum Storage {
+        /**
+         * Every animation is evaluated through its {@link ValueSource} and keeps its state in its {@link Entry}.
+         */
+        OBJECTS,
+        /**
+         * The start, target and previous values of {@link ValueSource#isLinear() linear} animations are kept in parallel
+         * primitive arrays, so a frame runs over contiguous memory instead of following one pointer chain per animation.
+         * This pays off for layers with thousands of animations. All other animations are stored as in {@link #OBJECTS}.
+         */
+        PACKED
+    }
+
+    public static final class Entry<S, A> {
+        /**
+         * The animation of this entry. Only reassigned when the entry is reused from an {@link ObjectPool}.
+         */
+        public S source;
+        A accumulatedValue = null;
+        float previousValue = 0f;
+        // index into the list of entries, so the entry can be removed in constant time
+        int index = -1;
+        // index into the packed arrays, or -1 if the entry is evaluated through its source
+        int packedIndex = -1;
+        int group = 0;
+
+        Entry(S source) {
+            this.source = source;
+        }
+
+        public A getAccumulatedValue() {
+            return accumulatedValue;
+        }
+
+        /**
+         * @return The group whose progress this entry uses, see {@link #accumulate(float[])}.
+         */
+        public int getGroup() {
+            return group;
+        }
+    }
+
+    private final List<Entry<S, A>> mEntries = new ArrayList<>();
+    // The accumulated values this layer has to apply in the current frame.
+    // It's better not to allocate once every frame, so we just create the list once and then clear() it.
+    private final List<A> mChangedValues = new ArrayList<>();
+    private ObjectPool<Entry<S, A>> mEntryPool = null;
+    // the progress of each group in the previous frame, see accumulate(float[])
+    private float[] mPreviousGroupProgress = null;
+
+    private final boolean mIsPacked;
+    // Packed storage: one element per packed entry.
+    private Entry<S, A>[] mPackedEntries;
+    private float[] mStartValues;
+    private float[] mTargetValues;
+    private float[] mPreviousValues;
+    private int[] mSlots;
+    private int[] mGroups;
+    private int mPackedCount = 0;
+    // Packed storage: one slot per distinct accumulated value, so the deltas of a frame are summed up in a
+    // primitive array before they are added to the accumulated values.
+    private AccumulatedValue[] mSlotValues;
+    private int mSlotCount = 0;
+    private final Map<A, Integer> mSlotIndices = new IdentityHashMap<>();
+    private float[] mSlotDeltas;
+    private int[] mSlotUsages;
+    // Packed storage: the entries that are not packed, rebuilt lazily after entries were bound or removed.
+    private final List<Entry<S, A>> mUnpackedEntries = new ArrayList<>();
+    private boolean mUnpackedEntriesChanged = false;
+
+    public AdditiveLayer() {
+        this(Storage.OBJECTS);
+    }
+
+    @SuppressWarnings("unchecked")
+    public AdditiveLayer(Storage storage) {
+        mIsPacked = storage == Storage.PACKED;
+        if (mIsPacked) {
+            mPackedEntries = new Entry[16];
+            mStartValues = new float[16];
+            mTargetValues = new float[16];
+            mPreviousValues = new float[16];
+            mSlots = new int[16];
+            mGroups = new int[16];
+            mSlotValues = new AccumulatedValue[16];
+            mSlotDeltas = new float[16];
+            mSlotUsages = new int[16];
+        }
+    }
+
+    public Storage getStorage() {
+        return mIsPacked ? Storage.PACKED : Storage.OBJECTS;
+    }
+
+    /**
+     * Makes {@link #add(ValueSource)} reuse the entries that were released by {@link #clear()}.
+     * Pass null to always allocate new entries (the default).
+     */
+    public void setEntryPool(ObjectPool<Entry<S, A>> entryPool) {
+        mEntryPool = entryPool;
+    }
+
+    public Entry<S, A> add(S source) {
+        return add(source, 0);
+    }
+
+    /**
+     * Adds an animation that uses the progress of the given group, see {@link #accumulate(float[])}.
+     */
+    public Entry<S, A> add(S source, int group) {
+        Entry<S, A> entry = mEntryPool == null ? null : mEntryPool.obtain();
+        if (entry == null) {
+            entry = new Entry<>(source);
+        } else {
+            entry.source = source;
+        }
+        entry.index = mEntries.size();
+        entry.group = group;
+        mEntries.add(entry);
+        mUnpackedEntriesChanged = true;
+        return entry;
+    }
+
+    /**
+     * Removes the entry in constant time. The last entry takes its place, so the order of {@link #getEntries()} is not preserved.
+     *
+     * @return false if the entry isn't part of this layer.
+     */
+    public boolean remove(Entry<S, A> entry) {
+        int index = entry.index;
+        if (index < 0 || index >= mEntries.size() || mEntries.get(index) != entry) {
+            return false;
+        }
+        Entry<S, A> last = mEntries.remove(mEntries.size() - 1);
+        if (last != entry) {
+            mEntries.set(index, last);
+            last.index = index;
+        }
+        entry.index = -1;
+        if (entry.packedIndex >= 0) {
+            unpack(entry);
+        }
+        mUnpackedEntriesChanged = true;
+        return true;
+    }
+
+    public List<Entry<S, A>> getEntries() {
+        return mEntries;
+    }
+
+    public int size() {
+        return mEntries.size();
+    }
+
+    public boolean isEmpty() {
+        return mEntries.isEmpty();
+    }
+
+    /**
+     * Removes all entries. If an entry pool was set, the entries are reset and released into it,
+     * so the caller must not hold on to any of them.
+     */
+    public void clear() {
+        if (mEntryPool != null) {
+            for (int i = 0; i < mEntries.size(); i++) {
+                Entry<S, A> entry = mEntries.get(i);
+                entry.source = null;
+                entry.accumulatedValue = null;
+                entry.previousValue = 0f;
+                entry.index = -1;
+                entry.packedIndex = -1;
+                entry.group = 0;
+                mEntryPool.release(entry);
+            }
+        }
+        mEntries.clear();
+        mPreviousGroupProgress = null;
+        for (int i = 0; i < mChangedValues.size(); i++) {
+            mChangedValues.get(i).isDirty = false;
+        }
+        mChangedValues.clear();
+        if (mIsPacked) {
+            Arrays.fill(mPackedEntries, 0, mPackedCount, null);
+            mPackedCount = 0;
+            Arrays.fill(mSlotValues, 0, mSlotCount, null);
+            Arrays.fill(mSlotDeltas, 0, mSlotCount, 0f);
+            Arrays.fill(mSlotUsages, 0, mSlotCount, 0);
+            mSlotCount = 0;
+            mSlotIndices.clear();
+            mUnpackedEntries.clear();
+            mUnpackedEntriesChanged = false;
+        }
+    }
+
+    /**
+     * Binds the entry to the value it will add its deltas to, starting from `startValue`.
+     * Must be called for every entry before the first call to {@link #accumulate(float)}.
+     */
+    public void bind(Entry<S, A> entry, A accumulatedValue, float startValue) {
+        entry.accumulatedValue = accumulatedValue;
+        entry.previousValue = startValue;
+        if (!mIsPacked) {
+            return;
+        }
+        if (entry.packedIndex >= 0) {
+            unpack(entry);
+        }
+        if (entry.source.isLinear()) {
+            pack(entry, accumulatedValue, startValue);
+        }
+        mUnpackedEntriesChanged = true;
+    }
+
+    /**
+     * Returns the value the entry had in the last frame, which is the value it was bound with before the first frame.
+     */
+    public float getPreviousValue(Entry<S, A> entry) {
+        return entry.packedIndex >= 0 ? mPreviousValues[entry.packedIndex] : entry.previousValue;
+    }
+
+    /**
+     * Whether every animation in this layer has settled at the given progress, see {@link ValueSource#isSettledAt(float)}.
+     * An empty layer never settles, so it keeps its original duration.
+     */
+    public boolean isSettledAt(float progress) {
+        if (mEntries.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < mEntries.size(); i++) {
+            if (!mEntries.get(i).source.isSettledAt(progress)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Like {@link #isSettledAt(float)}, but every animation is checked at the progress of its group, see {@link #accumulate(float[])}.
+     */
+    public boolean isSettledAt(float[] groupProgress) {
+        if (mEntries.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < mEntries.size(); i++) {
+            Entry<S, A> entry = mEntries.get(i);
+            if (!entry.source.isSettledAt(groupProgress[entry.group])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the deltas of all animations at the given (interpolated) progress to their accumulated values.
+     */
+    public void accumulate(float progress) {
+        if (!mIsPacked) {
+            accumulate(mEntries, progress);
+            return;
+        }
+        accumulate(getUnpackedEntries(), progress);
+        accumulatePacked(progress);
+    }
+
+    /**
+     * Like {@link #accumulate(float)}, but every entry uses the progress of its group, e.g. for staggered animations
+     * that share one layer but start at different times. {@code groupProgress} must have an element for every group.
+     */
+    public void accumulate(float[] groupProgress) {
+        if (mPreviousGroupProgress == null || mPreviousGroupProgress.length != groupProgress.length) {
+            mPreviousGroupProgress = new float[groupProgress.length];
+            Arrays.fill(mPreviousGroupProgress, Float.NaN);
+        }
+        if (!mIsPacked) {
+            accumulate(mEntries, groupProgress);
+        } else {
+            accumulate(getUnpackedEntries(), groupProgress);
+            accumulatePacked(groupProgress);
+        }
+        System.arraycopy(groupProgress, 0, mPreviousGroupProgress, 0, groupProgress.length);
+    }
+
+    private List<Entry<S, A>> getUnpackedEntries() {
+        if (mUnpackedEntriesChanged) {
+            mUnpackedEntriesChanged = false;
+            mUnpackedEntries.clear();
+            for (int i = 0; i < mEntries.size(); i++) {
+                Entry<S, A> entry = mEntries.get(i);
+                if (entry.packedIndex < 0) {
+                    mUnpackedEntries.add(entry);
+                }
+            }
+        }
+        return mUnpackedEntries;
+    }
+
+    private void accumulate(List<Entry<S, A>> entries, float progress) {
+        for (int i = 0; i < entries.size(); i++) {
+            Entry<S, A> entry = entries.get(i);
+            float newValue = entry.source.evaluateAt(progress);
+            A accumulatedValue = entry.accumulatedValue;
+            accumulatedValue.addDelta(newValue - entry.previousValue);
+            entry.previousValue = newValue;
+            markChanged(accumulatedValue);
+        }
+    }
+
+    private void accumulate(List<Entry<S, A>> entries, float[] groupProgress) {
+        float[] previousGroupProgress = mPreviousGroupProgress;
+        for (int i = 0; i < entries.size(); i++) {
+            Entry<S, A> entry = entries.get(i);
+            float progress = groupProgress[entry.group];
+            if (progress == previousGroupProgress[entry.group]) {
+                // Groups that haven't started yet or have already ended would only add a delta of 0.
+                // With a long stagger, that is most of them in every frame.
+                continue;
+            }
+            float newValue = entry.source.evaluateAt(progress);
+            A accumulatedValue = entry.accumulatedValue;
+            accumulatedValue.addDelta(newValue - entry.previousValue);
+            entry.previousValue = newValue;
+            markChanged(accumulatedValue);
+        }
+    }
+
+    private void accumulatePacked(float progress) {
+        if (mPackedCount == 0) {
+            return;
+        }
+        float[] startValues = mStartValues;
+        float[] targetValues = mTargetValues;
+        float[] previousValues = mPreviousValues;
+        int[] slots = mSlots;
+        float[] slotDeltas = mSlotDeltas;
+        for (int i = 0; i < mPackedCount; i++) {
+            float startValue = startValues[i];
+            float newValue = startValue + (targetValues[i] - startValue) * progress;
+            slotDeltas[slots[i]] += newValue - previousValues[i];
+            previousValues[i] = newValue;
+        }
+        addSlotDeltas(true);
+    }
+
+    private void accumulatePacked(float[] groupProgress) {
+        if (mPackedCount == 0) {
+            return;
+        }
+        float[] previousGroupProgress = mPreviousGroupProgress;
+        float[] startValues = mStartValues;
+        float[] targetValues = mTargetValues;
+        float[] previousValues = mPreviousValues;
+        int[] slots = mSlots;
+        int[] groups = mGroups;
+        float[] slotDeltas = mSlotDeltas;
+        AccumulatedValue[] slotValues = mSlotValues;
+        for (int i = 0; i < mPackedCount; i++) {
+            int group = groups[i];
+            float progress = groupProgress[group];
+            if (progress == previousGroupProgress[group]) {
+                continue;
+            }
+            float startValue = startValues[i];
+            float newValue = startValue + (targetValues[i] - startValue) * progress;
+            int slot = slots[i];
+            slotDeltas[slot] += newValue - previousValues[i];
+            previousValues[i] = newValue;
+            // only the values of groups that are running change, so only those are applied
+            @SuppressWarnings("unchecked") A value = (A) slotValues[slot];
+            markChanged(value);
+        }
+        addSlotDeltas(false);
+    }
+
+    /**
+     * Adds the deltas summed up in the slots to their accumulated values, and marks all of them as changed if `markChanged` is set.
+     */
+    private void addSlotDeltas(boolean markChanged) {
+        float[] slotDeltas = mSlotDeltas;
+        AccumulatedValue[] slotValues = mSlotValues;
+        int[] slotUsages = mSlotUsages;
+        for (int slot = 0; slot < mSlotCount; slot++) {
+            if (slotUsages[slot] == 0) {
+                continue;
+            }
+            AccumulatedValue accumulatedValue = slotValues[slot];
+            accumulatedValue.tempValue += slotDeltas[slot];
+            slotDeltas[slot] = 0f;
+            if (markChanged && !accumulatedValue.isDirty) {
+                accumulatedValue.isDirty = true;
+                // only values bound in pack() end up in the slots
+                @SuppressWarnings("unchecked") A value = (A) accumulatedValue;
+                mChangedValues.add(value);
+            }
+        }
+    }
+
+    private void markChanged(A accumulatedValue) {
+        // All layers animating the same property of the same target share one accumulated value.
+        // Only the first layer that touches it in this frame applies it, so each property is set exactly once per frame.
+        if (!accumulatedValue.isDirty) {
+            accumulatedValue.isDirty = true;
+            mChangedValues.add(accumulatedValue);
+        }
+    }
+
+    private void pack(Entry<S, A> entry, A accumulatedValue, float startValue) {
+        Integer existingSlot = mSlotIndices.get(accumulatedValue);
+        int slot;
+        if (existingSlot == null) {
+            slot = mSlotCount++;
+            if (slot == mSlotValues.length) {
+                mSlotValues = Arrays.copyOf(mSlotValues, slot * 2);
+                mSlotDeltas = Arrays.copyOf(mSlotDeltas, slot * 2);
+                mSlotUsages = Arrays.copyOf(mSlotUsages, slot * 2);
+            }
+            mSlotValues[slot] = accumulatedValue;
+            mSlotIndices.put(accumulatedValue, slot);
+        } else {
+            slot = existingSlot;
+        }
+        mSlotUsages[slot]++;
+
+        int index = mPackedCount++;
+        if (index == mPackedEntries.length) {
+            int capacity = index * 2;
+            mPackedEntries = Arrays.copyOf(mPackedEntries, capacity);
+            mStartValues = Arrays.copyOf(mStartValues, capacity);
+            mTargetValues = Arrays.copyOf(mTargetValues, capacity);
+            mPreviousValues = Arrays.copyOf(mPreviousValues, capacity);
+            mSlots = Arrays.copyOf(mSlots, capacity);
+            mGroups = Arrays.copyOf(mGroups, capacity);
+        }
+        mPackedEntries[index] = entry;
+        mStartValues[index] = entry.source.evaluateAt(0f);
+        mTargetValues[index] = entry.source.evaluateAt(1f);
+        mPreviousValues[index] = startValue;
+        mSlots[index] = slot;
+        mGroups[index] = entry.group;
+        entry.packedIndex = index;
+    }
+
+    /**
+     * Moves the entry back to object storage. The last packed entry takes its place, so this is O(1).
+     */
+    private void unpack(Entry<S, A> entry) {
+        int index = entry.packedIndex;
+        entry.previousValue = mPreviousValues[index];
+        entry.packedIndex = -1;
+        mSlotUsages[mSlots[index]]--;
+
+        int last = --mPackedCount;
+        if (index != last) {
+            Entry<S, A> moved = mPackedEntries[last];
+            mPackedEntries[index] = moved;
+            mStartValues[index] = mStartValues[last];
+            mTargetValues[index] = mTargetValues[last];
+            mPreviousValues[index] = mPreviousValues[last];
+            mSlots[index] = mSlots[last];
+            mGroups[index] = mGroups[last];
+            moved.packedIndex = index;
+        }
+        mPackedEntries[last] = null;
+    }
+
+    /**
+     * Hands the accumulated values this layer is responsible for in the current frame to the applier.
+     */
+    public void commit(Applier<A> applier) {
+        if (mChangedValues.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < mChangedValues.size(); i++) {
+            mChangedValues.get(i).isDirty = false;
+        }
+        applier.apply(mChangedValues);
+
+        // clear() does not resize the underlying elementData memory, so each subsequent frame will be able to reuse the previously allocated slots.
+        mChangedValues.clear();
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.additive_core;
+
+/**
+ * Computes the linear progress of an animation from frame times, with the same semantics as
+ * {@code android.animation.ValueAnimator}: the start delay and start time are counted from the first frame,
+ * and repeat count and repeat mode use the same constants.
+ * <p>
+ * A playback can also drive several groups of animations with the same timing that start one after another
+ * (see {@link #setStagger(long, int)}). Unless stated otherwise, fractions refer to the first group.
+ */
+public final class AnimationPlayback {
+
+    public static final int INFINITE = -1;
+    public static final int RESTART = 1;
+    public static final int REVERSE = 2;
+
+    private long mStartDelayMs = 0;
+    private long mDurationMs = 0;
+    private int mRepeatCount = 0;
+    private int mRepeatMode = RESTART;
+
+    private long mStaggerMs = 0;
+    private int mGroupCount = 1;
+
+    private long mStartTimeMs = -1;
+    // -1 until the first update, so a zero duration doesn't count as having ended before it was ever updated
+    private long mPlayTimeMs = -1;
+    private long mPreviousPlayTimeMs = -1;
+    private int mCurrentIteration = 0;
+    private float mOverallFraction = 0f;
+    private float mIterationFraction = 0f;
+    private boolean mIsFinished = false;
+
+    /**
+     * Resets the playback and configures it for a new run.
+     */
+    public void configure(long startDelayMs, long durationMs, int repeatCount, int repeatMode) {
+        mStartDelayMs = startDelayMs;
+        mDurationMs = durationMs;
+        mRepeatCount = repeatCount;
+        mRepeatMode = repeatMode;
+        mStaggerMs = 0;
+        mGroupCount = 1;
+        mStartTimeMs = -1;
+        mPlayTimeMs = -1;
+        mPreviousPlayTimeMs = -1;
+        mCurrentIteration = 0;
+        mOverallFraction = 0f;
+        mIterationFraction = 0f;
+        mIsFinished = false;
+    }
+
+    /**
+     * Changes the duration of a single iteration. Can be called after the start delay has passed (e.g. for spring timing).
+     */
+    public void setDuration(long durationMs) {
+        mDurationMs = durationMs;
+    }
+
+    public long getDuration() {
+        return mDurationMs;
+    }
+
+    /**
+     * Lets {@code groupCount} groups share this playback, each one starting {@code staggerMs} after the previous one.
+     * The playback finishes once the last group has finished. Must be called after {@link #configure(long, long, int, int)}.
+     */
+    public void setStagger(long staggerMs, int groupCount) {
+        if (groupCount < 1) {
+            throw new IllegalArgumentException("A playback needs at least one group, but groupCount was " + groupCount);
+        }
+        mStaggerMs = staggerMs;
+        mGroupCount = groupCount;
+    }
+
+    public int getGroupCount() {
+        return mGroupCount;
+    }
+
+    /**
+     * @return The time between the start of the first and the last group.
+     */
+    public long getStaggerSpan() {
+        return mStaggerMs * (mGroupCount - 1);
+    }
+
+    public long getStartDelay() {
+        return mStartDelayMs;
+    }
+
+    public int getRepeatCount() {
+        return mRepeatCount;
+    }
+
+    /**
+     * @return true while the start delay hasn't passed yet. The first call determines the start time.
+     */
+    public boolean isInStartDelay(long frameTimeMs) {
+        if (mStartTimeMs < 0) {
+            mStartTimeMs = frameTimeMs + mStartDelayMs;
+        }
+        return frameTimeMs < mStartTimeMs;
+    }
+
+    /**
+     * Updates the fractions for the given frame time.
+     * Must only be called after {@link #isInStartDelay(long)} returned false.
+     *
+     * @return true if a new iteration has started since the last update.
+     */
+    public boolean update(long frameTimeMs) {
+        mPreviousPlayTimeMs = mPlayTimeMs;
+        mPlayTimeMs = frameTimeMs - mStartTimeMs;
+        // the last group is the last one to finish, all other groups stay at their end
+        mIsFinished = mRepeatCount != INFINITE && overallFractionAt(mPlayTimeMs - getStaggerSpan()) >= mRepeatCount + 1;
+        float fraction = overallFractionAt(mPlayTimeMs);
+        int iteration = iterationOf(fraction);
+        boolean didRepeat = iteration > mCurrentIteration;
+        mCurrentIteration = iteration;
+        mOverallFraction = fraction;
+        mIterationFraction = iterationFractionOf(fraction, iteration);
+        return didRepeat;
+    }
+
+    private float overallFractionAt(long playTimeMs) {
+        if (playTimeMs < 0) {
+            // a group that hasn't started yet
+            return 0f;
+        }
+        float fraction = mDurationMs > 0 ? playTimeMs / (float) mDurationMs : 1f;
+        return mRepeatCount != INFINITE ? Math.min(fraction, mRepeatCount + 1) : fraction;
+    }
+
+    private static int iterationOf(float overallFraction) {
+        int iteration = (int) overallFraction;
+        if (overallFraction == iteration && overallFraction > 0) {
+            // the end of an iteration belongs to that iteration, not to the next one
+            iteration--;
+        }
+        return iteration;
+    }
+
+    private float iterationFractionOf(float overallFraction, int iteration) {
+        float iterationFraction = overallFraction - iteration;
+        return isReversed(iteration) ? 1f - iterationFraction : iterationFraction;
+    }
+
+    /**
+     * @return The linear progress (0-1) within the current iteration, already reversed for reversed iterations.
+     */
+    public float getIterationFraction() {
+        return mIterationFraction;
+    }
+
+    /**
+     * @return The linear progress (0-1) of the given group within its current iteration, see {@link #setStagger(long, int)}.
+     */
+    public float getIterationFraction(int group) {
+        if (group == 0 || mStaggerMs == 0) {
+            return mIterationFraction;
+        }
+        float fraction = overallFractionAt(mPlayTimeMs - group * mStaggerMs);
+        return iterationFractionOf(fraction, iterationOf(fraction));
+    }
+
+    /**
+     * @return The first group whose progress may have changed in the last update. All groups before it had already ended.
+     */
+    public int getFirstActiveGroup() {
+        if (mStaggerMs == 0 || mRepeatCount == INFINITE) {
+            return 0;
+        }
+        long totalMs = mDurationMs * (mRepeatCount + 1);
+        // group g had ended if mPreviousPlayTimeMs - g * mStaggerMs >= totalMs
+        long endedGroups = mPreviousPlayTimeMs < totalMs ? 0 : (mPreviousPlayTimeMs - totalMs) / mStaggerMs + 1;
+        return (int) Math.min(endedGroups, mGroupCount - 1);
+    }
+
+    /**
+     * @return The last group whose progress may have changed in the last update. All groups after it haven't started yet.
+     */
+    public int getLastActiveGroup() {
+        if (mStaggerMs == 0) {
+            return mGroupCount - 1;
+        }
+        // group g has started if mPlayTimeMs - g * mStaggerMs >= 0
+        return (int) Math.min(Math.max(mPlayTimeMs, 0) / mStaggerMs, mGroupCount - 1);
+    }
+
+    /**
+     * @return The linear progress over all iterations, ranging from 0 to (repeatCount + 1).
+     */
+    public float getOverallFraction() {
+        return mOverallFraction;
+    }
+
+    /**
+     * @return true if the last update reached the end of the last iteration.
+     */
+    public boolean isFinished() {
+        return mIsFinished;
+    }
+
+    /**
+     * @return true if the current iteration is the last one and runs forward, so it ends at an iteration fraction of 1.
+     */
+    public boolean isInLastForwardIteration() {
+        return mRepeatCount != INFINITE && mCurrentIteration == mRepeatCount && !isReversed(mCurrentIteration);
+    }
+
+    /**
+     * Like {@link #isInLastForwardIteration()}, for the given group, see {@link #setStagger(long, int)}.
+     */
+    public boolean isInLastForwardIteration(int group) {
+        if (group == 0 || mStaggerMs == 0) {
+            return isInLastForwardIteration();
+        }
+        if (mRepeatCount == INFINITE) {
+            return false;
+        }
+        int iteration = iterationOf(overallFractionAt(mPlayTimeMs - group * mStaggerMs));
+        return iteration == mRepeatCount && !isReversed(iteration);
+    }
+
+    /**
+     * Ends the playback early, as if the end of the last iteration had been reached.
+     */
+    public void finish() {
+        mIsFinished = true;
+        mCurrentIteration = Math.max(mRepeatCount, 0);
+        mOverallFraction = mRepeatCount + 1;
+        mIterationFraction = isReversed(mCurrentIteration) ? 0f : 1f;
+        // moves all groups to their end as well
+        mPreviousPlayTimeMs = mPlayTimeMs;
+        mPlayTimeMs = Long.MAX_VALUE / 2;
+    }
+
+    private boolean isReversed(int iteration) {
+        return mRepeatMode == REVERSE && iteration % 2 == 1;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.additive_core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import at.wirecube.additiveanimations.additive_animator.clock.FrameClock;
+
+/**
+ * Ticks all running {@link Client}s from a single frame callback of the current {@link FrameClock}.
+ * Each client computes its own fraction from its start time, delay, duration and repeat settings (see {@link AnimationPlayback}),
+ * so there is exactly one frame callback per frame, no matter how many animations are running.
+ * <p>
+ * Just like {@code android.animation.ValueAnimator}, this class is not thread safe and must only be used from a single (main) thread.
+ */
+public final class FrameDriver implements FrameClock.FrameCallback {
+
+    /**
+     * Something that is ticked by the {@link FrameDriver}, usually one additive layer and its timing.
+     */
+    public interface Client {
+        /**
+         * Clients which are no longer running are dropped by the driver in its next frame.
+         */
+        boolean isRunning();
+
+        /**
+         * Computes the current fraction and adds the deltas of all animations to their accumulated values.
+         *
+         * @return true if this client produced a frame that needs to be committed, false if it is still waiting for its start delay.
+         */
+        boolean doFrame(long frameTimeMs);
+
+        /**
+         * Applies the final accumulated values this client is responsible for in the current frame.
+         */
+        void commitFrame();
+
+        /**
+         * Notifies listeners and ends the animation if this was its last frame.
+         * Called after all clients have committed their changes.
+         */
+        void finishFrame();
+    }
+
+    private static FrameDriver sInstance = null;
+
+    public static FrameDriver getInstance() {
+        if (sInstance == null) {
+            sInstance = new FrameDriver();
+        }
+        return sInstance;
+    }
+
+    private final List<Client> mClients = new ArrayList<>();
+    // clients which produced a frame in the current tick, reused across frames to avoid allocations
+    private final List<Client> mTickedClients = new ArrayList<>();
+    // actions registered with runAfterCommit() during the current frame, reused across frames to avoid allocations
+    private final List<Runnable> mCommitActions = new ArrayList<>();
+    private boolean mIsFrameCallbackPosted = false;
+    private boolean mIsCommittingFrame = false;
+    private FrameClock mFrameClock = null;
+
+    private FrameDriver() {}
+
+    public FrameClock getFrameClock() {
+        return mFrameClock;
+    }
+
+    public void setFrameClock(FrameClock frameClock) {
+        if (mIsFrameCallbackPosted && mFrameClock != null) {
+            // move the pending frame over to the new clock, so running animations keep going
+            mFrameClock.removeFrameCallback(this);
+            if (frameClock != null) {
+                frameClock.postFrameCallback(this);
+            } else {
+                // without a clock, running animations pause until the next one is added
+                mIsFrameCallbackPosted = false;
+            }
+        }
+        mFrameClock = frameClock;
+    }
+
+    public void add(Client client) {
+        if (mFrameClock == null) {
+            throw new IllegalStateException("No FrameClock has been set. Call FrameDriver.setFrameClock() before starting animations.");
+        }
+        mClients.add(client);
+        if (!mIsFrameCallbackPosted) {
+            mIsFrameCallbackPosted = true;
+            mFrameClock.postFrameCallback(this);
+        }
+    }
+
+    /**
+     * Runs `action` once all clients have committed the current frame, before any listeners are notified.
+     * Clients can use this to batch work that depends on all values of the frame, e.g. requesting a layout pass.
+     * When called outside of the commit phase of a frame (e.g. when an animation is applied synchronously), `action` runs right away.
+     */
+    public void runAfterCommit(Runnable action) {
+        if (mIsCommittingFrame) {
+            mCommitActions.add(action);
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * @return The number of clients that are currently registered, including ones that have ended during the current frame.
+     */
+    public int getClientCount() {
+        return mClients.size();
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        mIsFrameCallbackPosted = false;
+        long frameTimeMs = frameTimeNanos / 1_000_000;
+
+        // Clients that are started during this frame (for example from an end action) are appended to the list,
+        // but only receive their first frame in the next frame - just like ValueAnimator.
+        final int count = mClients.size();
+        for (int i = 0; i < count; i++) {
+            Client client = mClients.get(i);
+            if (client.isRunning() && client.doFrame(frameTimeMs)) {
+                mTickedClients.add(client);
+            }
+        }
+        // Only once every client has added its deltas do we write the final values, so that each property
+        // of each target is set once per frame instead of once per running client.
+        mIsCommittingFrame = true;
+        for (int i = 0; i < mTickedClients.size(); i++) {
+            mTickedClients.get(i).commitFrame();
+        }
+        mIsCommittingFrame = false;
+        for (int i = 0; i < mCommitActions.size(); i++) {
+            mCommitActions.get(i).run();
+        }
+        mCommitActions.clear();
+        // Listeners are called last, so they always observe the fully applied frame.
+        for (int i = 0; i < mTickedClients.size(); i++) {
+            mTickedClients.get(i).finishFrame();
+        }
+        mTickedClients.clear();
+
+        // Finished and cancelled clients are only flagged, so we compact the list once per frame instead of
+        // doing a linear search every time one of them ends.
+        int writeIndex = 0;
+        for (int i = 0; i < mClients.size(); i++) {
+            Client client = mClients.get(i);
+            if (client.isRunning()) {
+                mClients.set(writeIndex++, client);
+            }
+        }
+        for (int i = mClients.size() - 1; i >= writeIndex; i--) {
+            mClients.remove(i);
+        }
+
+        if (!mClients.isEmpty() && !mIsFrameCallbackPosted) {
+            mIsFrameCallbackPosted = true;
+            mFrameClock.postFrameCallback(this);
+        }
+    }
+}
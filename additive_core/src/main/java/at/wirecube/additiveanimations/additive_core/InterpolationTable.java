@@ -0,0 +1,139 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package at.wirecube.additiveanimations.additive_core;
+
+/**
+ * A timing curve, sampled at evenly spaced fractions between 0 and 1.
+ * Evaluating the table is an index computation and an interpolation between two samples, regardless of how expensive the
+ * original curve is to evaluate (a path interpolator for example does a binary search on every call).
+ * <p>
+ * Tables are immutable and don't keep a reference to the curve they were created from.
+ */
+public final class InterpolationTable {
+
+    public static final int DEFAULT_SAMPLE_COUNT = 256;
+
+    /**
+     * A function of the animation fraction, usually the {@code getInterpolation()} method of an interpolator.
+     */
+    public interface Curve {
+        float valueAt(float fraction);
+    }
+
+    public enum Refinement {
+        /**
+         * Straight lines between the samples. The error shrinks quadratically with the sample count.
+         */
+        LINEAR,
+        /**
+         * Cubic Hermite splines between the samples, using the slopes of the curve at each sample.
+         * More expensive to evaluate than {@link #LINEAR}, but reaches the same precision with about a quarter of the samples on smooth curves.
+         */
+        HERMITE
+    }
+
+    private final int mSampleCount;
+    private final Refinement mRefinement;
+    private final float[] mValues;
+    // HERMITE only: the cubic polynomial of each segment in t (0 to 1 within the segment), highest order first
+    private final float[] mCoefficients;
+    private final float mMaxError;
+
+    /**
+     * @param sampleCount The number of segments the fraction range is divided into.
+     */
+    public InterpolationTable(Curve curve, int sampleCount, Refinement refinement) {
+        if (sampleCount < 1) {
+            throw new IllegalArgumentException("An interpolation table needs at least one segment, but sampleCount was " + sampleCount);
+        }
+        mSampleCount = sampleCount;
+        mRefinement = refinement;
+        mValues = new float[sampleCount + 1];
+        for (int i = 0; i <= sampleCount; i++) {
+            mValues[i] = curve.valueAt((float) i / sampleCount);
+        }
+        if (refinement == Refinement.HERMITE) {
+            // the slope at each sample, scaled to the width of one segment,
+            // from finite differences over a quarter of a segment (one-sided at both ends)
+            float[] slopes = new float[sampleCount + 1];
+            float h = 0.25f / sampleCount;
+            for (int i = 0; i <= sampleCount; i++) {
+                float x = (float) i / sampleCount;
+                float x0 = Math.max(0f, x - h);
+                float x1 = Math.min(1f, x + h);
+                slopes[i] = (curve.valueAt(x1) - curve.valueAt(x0)) / (x1 - x0) / sampleCount;
+            }
+            // expanding the Hermite basis functions up front leaves only a Horner evaluation for every frame
+            mCoefficients = new float[sampleCount * 4];
+            for (int i = 0; i < sampleCount; i++) {
+                float from = mValues[i];
+                float to = mValues[i + 1];
+                mCoefficients[i * 4] = 2f * from - 2f * to + slopes[i] + slopes[i + 1];
+                mCoefficients[i * 4 + 1] = -3f * from + 3f * to - 2f * slopes[i] - slopes[i + 1];
+                mCoefficients[i * 4 + 2] = slopes[i];
+                mCoefficients[i * 4 + 3] = from;
+            }
+        } else {
+            mCoefficients = null;
+        }
+        mMaxError = measureMaxError(curve);
+    }
+
+    // Compares the table to the curve at three points inside of each segment, where the error is largest.
+    private float measureMaxError(Curve curve) {
+        float maxError = 0f;
+        for (int i = 0; i < mSampleCount; i++) {
+            for (int j = 1; j <= 3; j++) {
+                float fraction = (i + j * 0.25f) / mSampleCount;
+                maxError = Math.max(maxError, Math.abs(evaluate(fraction) - curve.valueAt(fraction)));
+            }
+        }
+        return maxError;
+    }
+
+    public int getSampleCount() {
+        return mSampleCount;
+    }
+
+    public Refinement getRefinement() {
+        return mRefinement;
+    }
+
+    /**
+     * @return The largest difference between the table and the original curve that was found when the table was created.
+     * Each segment is probed at three points, so this is a close estimate for smooth curves, not a strict bound.
+     */
+    public float getMaxError() {
+        return mMaxError;
+    }
+
+    /**
+     * @param fraction The animation fraction. Values outside of [0, 1] are clamped.
+     */
+    public float evaluate(float fraction) {
+        float position = Math.max(0f, Math.min(1f, fraction)) * mSampleCount;
+        int index = Math.min((int) position, mSampleCount - 1);
+        float t = position - index;
+        if (mCoefficients == null) {
+            float from = mValues[index];
+            return from + (mValues[index + 1] - from) * t;
+        }
+        int offset = index * 4;
+        return ((mCoefficients[offset] * t + mCoefficients[offset + 1]) * t + mCoefficients[offset + 2]) * t + mCoefficients[offset + 3];
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.additive_core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A bounded stack of reusable objects.
+ * Pools are not thread-safe: they must only be used from the thread that drives the animations.
+ *
+ * @param <T> The type of the pooled objects.
+ */
+public final class ObjectPool<T> {
+
+    private final List<T> mObjects;
+    private final int mMaxSize;
+
+    /**
+     * @param maxSize The maximum number of objects kept in the pool, further released objects are left to the garbage collector.
+     */
+    public ObjectPool(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("The maximum pool size must not be negative, but was " + maxSize);
+        }
+        mMaxSize = maxSize;
+        mObjects = new ArrayList<>(Math.min(maxSize, 16));
+    }
+
+    /**
+     * Returns a previously released object, or null if the pool is empty.
+     */
+    public T obtain() {
+        int size = mObjects.size();
+        return size == 0 ? null : mObjects.remove(size - 1);
+    }
+
+    /**
+     * Returns the object to the pool. The caller must not use it afterwards.
+     *
+     * @return false if the pool is full and the object was dropped.
+     */
+    public boolean release(T object) {
+        if (object == null) {
+            throw new IllegalArgumentException("Cannot release null into a pool");
+        }
+        if (mObjects.size() >= mMaxSize) {
+            return false;
+        }
+        mObjects.add(object);
+        return true;
+    }
+
+    public int size() {
+        return mObjects.size();
+    }
+
+    public void clear() {
+        mObjects.clear();
+    }
+}
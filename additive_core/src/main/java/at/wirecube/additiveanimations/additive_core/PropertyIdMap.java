@@ -0,0 +1,87 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package at.wirecube.additiveanimations.additive_core;
+
+import java.util.Arrays;
+
+/**
+ * A map from property IDs (see {@link PropertyRegistry}) to values.
+ * Since IDs are small and dense, the values are simply stored in an array indexed by ID,
+ * so lookups don't need any hashing or boxing.
+ */
+public final class PropertyIdMap<V> {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private Object[] mValues = EMPTY;
+    private int mSize = 0;
+
+    @SuppressWarnings("unchecked")
+    public V get(int id) {
+        if (id < 0 || id >= mValues.length) {
+            return null;
+        }
+        return (V) mValues[id];
+    }
+
+    /**
+     * @param value Must not be null, use {@link #remove(int)} instead.
+     */
+    public void put(int id, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("PropertyIdMap doesn't support null values.");
+        }
+        if (id >= mValues.length) {
+            mValues = Arrays.copyOf(mValues, Math.max(id + 1, Math.max(8, mValues.length * 2)));
+        }
+        if (mValues[id] == null) {
+            mSize++;
+        }
+        mValues[id] = value;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V remove(int id) {
+        if (id < 0 || id >= mValues.length || mValues[id] == null) {
+            return null;
+        }
+        V value = (V) mValues[id];
+        mValues[id] = null;
+        mSize--;
+        return value;
+    }
+
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * All IDs stored in this map are smaller than the capacity. Since IDs are dense, the values can be iterated
+     * by calling {@link #get(int)} for every ID below the capacity and skipping the nulls.
+     */
+    public int capacity() {
+        return mValues.length;
+    }
+
+    public boolean isEmpty() {
+        return mSize == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(mValues, null);
+        mSize = 0;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package at.wirecube.additiveanimations.additive_core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interns the names of animated properties into small, dense integer IDs.
+ * Animations look up their ID once when they are created, so per-target state can be stored in arrays indexed by
+ * property ID (see {@link PropertyIdMap}) instead of maps keyed by name.
+ * <p>
+ * IDs are never reused. The registry only grows with the number of distinct property names in the app, which is usually a few dozen.
+ */
+public final class PropertyRegistry {
+
+    public static final int NO_ID = -1;
+
+    private static final Map<String, Integer> sIds = new HashMap<>();
+    private static final List<String> sNames = new ArrayList<>();
+
+    private PropertyRegistry() {}
+
+    /**
+     * @return The ID of the property with the given name, registering the name if necessary.
+     */
+    public static synchronized int idFor(String name) {
+        Integer id = sIds.get(name);
+        if (id == null) {
+            id = sNames.size();
+            sNames.add(name);
+            sIds.put(name, id);
+        }
+        return id;
+    }
+
+    /**
+     * @return The ID of the property with the given name, or {@link #NO_ID} if no animation of that property has ever been created.
+     */
+    public static synchronized int find(String name) {
+        Integer id = sIds.get(name);
+        return id == null ? NO_ID : id;
+    }
+
+    public static synchronized String nameOf(int id) {
+        return sNames.get(id);
+    }
+
+    public static synchronized int size() {
+        return sNames.size();
+    }
+}
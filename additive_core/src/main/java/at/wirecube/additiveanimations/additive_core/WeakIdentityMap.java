@@ -0,0 +1,146 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.additive_core;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
+/**
+ * A hash map which compares its keys by identity (like {@link java.util.IdentityHashMap}) and only holds them weakly (like {@link java.util.WeakHashMap}).
+ * Entries whose keys have been garbage collected are dropped the next time the map is accessed.
+ * <p>
+ * As with WeakHashMap, the values must not hold strong references to their keys, otherwise the keys can never be collected.
+ * Not thread-safe.
+ */
+public final class WeakIdentityMap<K, V> {
+
+    private static final class Entry<K, V> extends WeakReference<K> {
+        final int hash;
+        V value;
+        Entry<K, V> next;
+
+        Entry(K key, int hash, V value, Entry<K, V> next, ReferenceQueue<? super K> queue) {
+            super(key, queue);
+            this.hash = hash;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    private final ReferenceQueue<K> mQueue = new ReferenceQueue<>();
+    private Entry<K, V>[] mTable = newTable(16);
+    private int mSize = 0;
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> Entry<K, V>[] newTable(int capacity) {
+        return (Entry<K, V>[]) new Entry[capacity];
+    }
+
+    private static int indexFor(int hash, int length) {
+        return (hash ^ (hash >>> 16)) & (length - 1);
+    }
+
+    public V get(K key) {
+        expungeStaleEntries();
+        int hash = System.identityHashCode(key);
+        for (Entry<K, V> e = mTable[indexFor(hash, mTable.length)]; e != null; e = e.next) {
+            if (e.hash == hash && e.get() == key) {
+                return e.value;
+            }
+        }
+        return null;
+    }
+
+    public void put(K key, V value) {
+        expungeStaleEntries();
+        int hash = System.identityHashCode(key);
+        int index = indexFor(hash, mTable.length);
+        for (Entry<K, V> e = mTable[index]; e != null; e = e.next) {
+            if (e.hash == hash && e.get() == key) {
+                e.value = value;
+                return;
+            }
+        }
+        mTable[index] = new Entry<>(key, hash, value, mTable[index], mQueue);
+        if (++mSize > mTable.length * 3 / 4) {
+            resize(mTable.length * 2);
+        }
+    }
+
+    public V remove(K key) {
+        expungeStaleEntries();
+        int hash = System.identityHashCode(key);
+        int index = indexFor(hash, mTable.length);
+        Entry<K, V> previous = null;
+        for (Entry<K, V> e = mTable[index]; e != null; previous = e, e = e.next) {
+            if (e.hash == hash && e.get() == key) {
+                V value = e.value;
+                unlink(index, previous, e);
+                return value;
+            }
+        }
+        return null;
+    }
+
+    public int size() {
+        expungeStaleEntries();
+        return mSize;
+    }
+
+    private void unlink(int index, Entry<K, V> previous, Entry<K, V> entry) {
+        if (previous == null) {
+            mTable[index] = entry.next;
+        } else {
+            previous.next = entry.next;
+        }
+        entry.value = null; // don't keep the value alive through the reference queue
+        entry.next = null;
+        mSize--;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void expungeStaleEntries() {
+        Object reference;
+        while ((reference = mQueue.poll()) != null) {
+            Entry<K, V> stale = (Entry<K, V>) reference;
+            int index = indexFor(stale.hash, mTable.length);
+            Entry<K, V> previous = null;
+            for (Entry<K, V> e = mTable[index]; e != null; previous = e, e = e.next) {
+                if (e == stale) {
+                    unlink(index, previous, e);
+                    break;
+                }
+            }
+        }
+    }
+
+    private void resize(int capacity) {
+        Entry<K, V>[] oldTable = mTable;
+        Entry<K, V>[] newTable = newTable(capacity);
+        for (Entry<K, V> head : oldTable) {
+            Entry<K, V> e = head;
+            while (e != null) {
+                Entry<K, V> next = e.next;
+                int index = indexFor(e.hash, capacity);
+                e.next = newTable[index];
+                newTable[index] = e;
+                e = next;
+            }
+        }
+        mTable = newTable;
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.helper
+
+import kotlin.math.abs
+import kotlin.math.cos
+import kotlin.math.exp
+import kotlin.math.ln
+import kotlin.math.sin
+import kotlin.math.sqrt
+
+/**
+ * Analytical solver for a damped harmonic oscillator (spring).
+ *
+ * Solves the equation: x''(t) + 2ζω₀x'(t) + ω₀²x(t) = ω₀²·target
+ *
+ * where:
+ * - ω₀ = √stiffness (natural angular frequency, assuming mass = 1)
+ * - ζ  = dampingRatio
+ * - target = the equilibrium (rest) position
+ *
+ * Supports all three damping regimes: underdamped (ζ < 1), critically damped (ζ = 1), and overdamped (ζ > 1).
+ *
+ * @param stiffness    Spring stiffness constant (must be > 0).
+ * @param dampingRatio Damping ratio: 0 = undamped, < 1 = underdamped, 1 = critical, > 1 = overdamped.
+ * @param startValue   The initial position (value at t=0).
+ * @param targetValue  The equilibrium position the spring pulls towards.
+ * @param initialVelocity The initial velocity at t=0 (default 0). Can be used for velocity handoff.
+ */
+class SpringSolver(
+    val stiffness: Float,
+    val dampingRatio: Float,
+    val startValue: Float,
+    val targetValue: Float,
+    val initialVelocity: Float = 0f
+) {
+    private val omega0: Double = sqrt(stiffness.toDouble()) // natural frequency
+    private val displacement: Double = (startValue - targetValue).toDouble() // x₀ - target
+
+    // The coefficients of the closed-form solution only depend on the constructor parameters,
+    // so they are computed once here instead of on every call to solve() and velocity().
+    private val regime: Int
+    private val gamma: Double // underdamped: decay rate ζ·ω₀
+    private val omegaD: Double // underdamped: damped frequency
+    private val a: Double // underdamped and critically damped
+    private val b: Double // underdamped and critically damped
+    private val r1: Double // overdamped: less negative root
+    private val r2: Double // overdamped: more negative root
+    private val c1: Double // overdamped
+    private val c2: Double // overdamped
+
+    init {
+        val zeta = dampingRatio.toDouble()
+        val v0 = initialVelocity.toDouble()
+        when {
+            // Underdamped: ζ < 1 — oscillates around target
+            zeta < 1.0 -> {
+                // x(t) = target + e^(-γt) * (A·cos(ωd·t) + B·sin(ωd·t))
+                // where A = x₀ - target, B = (v₀ + γ·A) / ωd
+                regime = UNDERDAMPED
+                gamma = zeta * omega0
+                omegaD = omega0 * sqrt(1.0 - zeta * zeta)
+                a = displacement
+                b = (v0 + gamma * a) / omegaD
+                r1 = 0.0
+                r2 = 0.0
+                c1 = 0.0
+                c2 = 0.0
+            }
+
+            // Critically damped: ζ = 1 — fastest approach without oscillation
+            zeta == 1.0 -> {
+                // x(t) = target + (A + B·t) · e^(-ω₀·t)
+                // where A = x₀ - target, B = v₀ + ω₀·A
+                regime = CRITICALLY_DAMPED
+                gamma = 0.0
+                omegaD = 0.0
+                a = displacement
+                b = v0 + omega0 * a
+                r1 = 0.0
+                r2 = 0.0
+                c1 = 0.0
+                c2 = 0.0
+            }
+
+            // Overdamped: ζ > 1 — slow exponential approach
+            else -> {
+                // x(t) = target + c1·e^(r1·t) + c2·e^(r2·t)
+                // Solve initial conditions: c1 + c2 = displacement, c1·r1 + c2·r2 = v0
+                regime = OVERDAMPED
+                gamma = 0.0
+                omegaD = 0.0
+                a = 0.0
+                b = 0.0
+                val sqrtTerm = sqrt(zeta * zeta - 1.0)
+                r1 = -omega0 * (zeta - sqrtTerm)
+                r2 = -omega0 * (zeta + sqrtTerm)
+                c2 = (v0 - r1 * displacement) / (r2 - r1)
+                c1 = displacement - c2
+            }
+        }
+    }
+
+    companion object {
+        /**
+         * Default threshold for considering the spring "settled".
+         * The spring is settled when the remaining displacement is less than this fraction
+         * of the total animation distance.
+         */
+        const val DEFAULT_SETTLING_THRESHOLD: Float = 0.001f
+
+        private const val UNDERDAMPED = 0
+        private const val CRITICALLY_DAMPED = 1
+        private const val OVERDAMPED = 2
+
+        /**
+         * Computes the estimated duration (in milliseconds) for a spring to settle within
+         * [threshold] of the target value, as a fraction of the total animation distance.
+         */
+        @JvmStatic
+        @JvmOverloads
+        fun settlingDurationMs(stiffness: Float, dampingRatio: Float, threshold: Float = DEFAULT_SETTLING_THRESHOLD): Long {
+            val omega0 = sqrt(stiffness.toDouble())
+            if (omega0 == 0.0) return Long.MAX_VALUE
+
+            // The envelope of the oscillation decays as e^(-dampingRatio * omega0 * t).
+            // We solve for t when the envelope equals the threshold:
+            // e^(-dampingRatio * omega0 * t) = threshold
+            // t = -ln(threshold) / (dampingRatio * omega0)
+            val effectiveDamping = if (dampingRatio < 0.001f) 0.001 else dampingRatio.toDouble()
+            val settlingTimeSeconds = -ln(threshold.toDouble()) / (effectiveDamping * omega0)
+
+            // Add a small safety margin (10%) to ensure the animation doesn't cut off early
+            return (settlingTimeSeconds * 1.1 * 1000).toLong().coerceAtLeast(1L)
+        }
+
+        /**
+         * Advances a spring by [deltaSeconds] without creating a solver, using the same closed-form solution.
+         * [state] holds the displacement from the target at `offset` and the velocity at `offset + 1`, both are updated in place.
+         * This is meant for springs whose target keeps changing, where a new solver would be needed for every change.
+         */
+        @JvmStatic
+        fun step(stiffness: Float, dampingRatio: Float, state: FloatArray, offset: Int, deltaSeconds: Float) {
+            val t = deltaSeconds.toDouble()
+            if (t <= 0.0) return
+            val omega0 = sqrt(stiffness.toDouble())
+            val zeta = dampingRatio.toDouble()
+            val x0 = state[offset].toDouble()
+            val v0 = state[offset + 1].toDouble()
+            val x: Double
+            val v: Double
+            when {
+                zeta < 1.0 -> {
+                    val gamma = zeta * omega0
+                    val omegaD = omega0 * sqrt(1.0 - zeta * zeta)
+                    val b = (v0 + gamma * x0) / omegaD
+                    val envelope = exp(-gamma * t)
+                    val cosVal = cos(omegaD * t)
+                    val sinVal = sin(omegaD * t)
+                    x = envelope * (x0 * cosVal + b * sinVal)
+                    v = envelope * ((-gamma) * (x0 * cosVal + b * sinVal) + omegaD * (-x0 * sinVal + b * cosVal))
+                }
+                zeta == 1.0 -> {
+                    val b = v0 + omega0 * x0
+                    val envelope = exp(-omega0 * t)
+                    x = (x0 + b * t) * envelope
+                    v = (b - omega0 * (x0 + b * t)) * envelope
+                }
+                else -> {
+                    val sqrtTerm = sqrt(zeta * zeta - 1.0)
+                    val r1 = -omega0 * (zeta - sqrtTerm)
+                    val r2 = -omega0 * (zeta + sqrtTerm)
+                    val c2 = (v0 - r1 * x0) / (r2 - r1)
+                    val c1 = x0 - c2
+                    val e1 = exp(r1 * t)
+                    val e2 = exp(r2 * t)
+                    x = c1 * e1 + c2 * e2
+                    v = c1 * r1 * e1 + c2 * r2 * e2
+                }
+            }
+            state[offset] = x.toFloat()
+            state[offset + 1] = v.toFloat()
+        }
+
+        /**
+         * Computes the stiffness for which a spring with the given [dampingRatio] settles within approximately [durationMs].
+         */
+        @JvmStatic
+        fun stiffnessForSettlingDuration(durationMs: Long, dampingRatio: Float): Float {
+            val durationSeconds = durationMs / 1000.0
+            val effectiveDamping = if (dampingRatio < 0.001f) 0.001 else dampingRatio.toDouble()
+
+            // We want the settling time to match the desired duration.
+            // From settlingTime = -ln(threshold) / (dampingRatio * omega0):
+            //   omega0 = -ln(threshold) / (dampingRatio * settlingTime)
+            //   stiffness = omega0^2
+            val omega0 = -ln(DEFAULT_SETTLING_THRESHOLD.toDouble()) / (effectiveDamping * durationSeconds)
+            return (omega0 * omega0).toFloat()
+        }
+    }
+
+    /**
+     * Computes the spring position at the given elapsed time.
+     *
+     * @param elapsedSeconds Time in seconds since the animation started.
+     * @return The spring position at the given time.
+     */
+    fun solve(elapsedSeconds: Float): Float {
+        val t = elapsedSeconds.toDouble()
+        if (t <= 0.0) return startValue
+
+        val position: Double = when (regime) {
+            UNDERDAMPED -> targetValue + exp(-gamma * t) * (a * cos(omegaD * t) + b * sin(omegaD * t))
+            CRITICALLY_DAMPED -> targetValue + (a + b * t) * exp(-omega0 * t)
+            else -> targetValue + c1 * exp(r1 * t) + c2 * exp(r2 * t)
+        }
+
+        return position.toFloat()
+    }
+
+    /**
+     * Computes the spring velocity at the given elapsed time.
+     *
+     * @param elapsedSeconds Time in seconds since the animation started.
+     * @return The velocity (units per second) at the given time.
+     */
+    fun velocity(elapsedSeconds: Float): Float {
+        val t = elapsedSeconds.toDouble()
+        if (t <= 0.0) return initialVelocity
+
+        val vel: Double = when (regime) {
+            UNDERDAMPED -> {
+                val cosVal = cos(omegaD * t)
+                val sinVal = sin(omegaD * t)
+                // d/dt [e^(-γt) * (A·cos(ωd·t) + B·sin(ωd·t))]
+                exp(-gamma * t) * ((-gamma) * (a * cosVal + b * sinVal) + omegaD * (-a * sinVal + b * cosVal))
+            }
+
+            // d/dt [(A + B·t) · e^(-ω₀·t)] = (B - ω₀·(A + B·t)) · e^(-ω₀·t)
+            CRITICALLY_DAMPED -> (b - omega0 * (a + b * t)) * exp(-omega0 * t)
+
+            else -> c1 * r1 * exp(r1 * t) + c2 * r2 * exp(r2 * t)
+        }
+
+        return vel.toFloat()
+    }
+
+    /**
+     * Returns whether the spring has settled — i.e. both the displacement and velocity
+     * are below the given thresholds.
+     *
+     * @param elapsedSeconds Time in seconds since the animation started.
+     * @param positionThreshold Fraction of total distance below which the spring is "close enough" (default 0.001).
+     * @param velocityThreshold Fraction of total distance per second below which the spring is "slow enough" (defaults to [positionThreshold]).
+     */
+    @JvmOverloads
+    fun isSettled(
+        elapsedSeconds: Float,
+        positionThreshold: Float = DEFAULT_SETTLING_THRESHOLD,
+        velocityThreshold: Float = positionThreshold
+    ): Boolean {
+        // A spring that starts at its target can still move because of its initial velocity,
+        // in that case the distance it would overshoot without damping is used instead.
+        val totalDistance = maxOf(abs(targetValue - startValue), (abs(initialVelocity) / omega0).toFloat())
+        if (totalDistance == 0f) return true
+        val currentPos = solve(elapsedSeconds)
+        val currentVel = velocity(elapsedSeconds)
+        return abs(currentPos - targetValue) < positionThreshold * totalDistance &&
+            abs(currentVel) < velocityThreshold * totalDistance
+    }
+}
+
@@ -0,0 +1,139 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.additive_animator.sequence;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class AnimationSequenceTest {
+
+    /**
+     * A leaf of the sequence tree that records the delay it was started with.
+     */
+    private static final class Step extends AnimationSequence {
+        private final long mDuration;
+        private long mDelay = 0;
+        long startedWithDelay = -1;
+
+        Step(long duration) {
+            mDuration = duration;
+        }
+
+        @Override
+        public void start() {
+            startedWithDelay = mDelay;
+        }
+
+        @Override
+        public void setDelayInSequence(long delay) {
+            mDelay = delay;
+        }
+
+        @Override
+        public long getDelayInSequence() {
+            return mDelay;
+        }
+
+        @Override
+        public long getTotalDurationInSequence() {
+            return mDelay + mDuration;
+        }
+    }
+
+    @Test
+    public void playSequentiallyStartsEachStepWhenThePreviousOneEnds() {
+        Step a = new Step(300);
+        Step b = new Step(300);
+        Step c = new Step(300);
+        AnimationSequence sequence = AnimationSequence.playSequentially(a, b, c);
+
+        assertEquals(900, sequence.getTotalDurationInSequence());
+        sequence.start();
+
+        assertEquals(0, a.startedWithDelay);
+        assertEquals(300, b.startedWithDelay);
+        assertEquals(600, c.startedWithDelay);
+    }
+
+    @Test
+    public void nestedSequencesResolveTheirOffsetsRelativeToTheWholeTree() {
+        Step a = new Step(300);
+        Step b = new Step(300);
+        Step c = new Step(100);
+        Step d = new Step(200);
+        Step e = new Step(100);
+        Step f = new Step(100);
+        Step g = new Step(10);
+        AnimationSequence sequence = AnimationSequence.playSequentially(
+            a,
+            b,
+            AnimationSequence.playTogether(c, d),
+            AnimationSequence.playWithDelayBetweenAnimations(50, e, f),
+            g
+        );
+        sequence.setDelayInSequence(1000);
+
+        assertEquals(1960, sequence.getTotalDurationInSequence());
+        sequence.start();
+
+        assertEquals(1000, a.startedWithDelay);
+        assertEquals(1300, b.startedWithDelay);
+        assertEquals(1600, c.startedWithDelay);
+        assertEquals(1600, d.startedWithDelay);
+        assertEquals(1800, e.startedWithDelay);
+        assertEquals(1850, f.startedWithDelay);
+        assertEquals(1950, g.startedWithDelay);
+    }
+
+    @Test
+    public void nestedSequenceIsPlacedByItsParent() {
+        Step a = new Step(300);
+        Step b = new Step(200);
+        Step c = new Step(100);
+        AnimationSequence inner = AnimationSequence.playSequentially(a, b);
+        // like for any other child, the delay of a nested sequence is set by its parent when the parent starts
+        inner.setDelayInSequence(1000);
+        AnimationSequence outer = AnimationSequence.playSequentially(inner, c);
+        outer.setDelayInSequence(10);
+
+        assertEquals(610, outer.getTotalDurationInSequence());
+        outer.start();
+
+        assertEquals(10, a.startedWithDelay);
+        assertEquals(310, b.startedWithDelay);
+        assertEquals(510, c.startedWithDelay);
+    }
+
+    @Test
+    public void compilingDoesNotChangeTheDelaysOfTheAnimations() {
+        Step a = new Step(300);
+        Step b = new Step(300);
+        a.setDelayInSequence(50);
+        b.setDelayInSequence(70);
+        AnimationSequence sequence = AnimationSequence.playSequentially(a, b);
+
+        AnimationTimeline timeline = sequence.compile();
+
+        assertEquals(50, a.getDelayInSequence());
+        assertEquals(70, b.getDelayInSequence());
+        assertEquals(600, timeline.getTotalDuration());
+        assertEquals(2, timeline.getSize());
+        assertEquals(0, timeline.getStartOffset(0));
+        assertEquals(300, timeline.getStartOffset(1));
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+// JMH benchmarks for the per-frame hot path of the additive_core engine.
+// Run all benchmarks with `./gradlew :benchmark:jmh`, or a subset with `./gradlew :benchmark:jmh -Pjmh.include=FrameTick`.
+// Every run uses the GC profiler, so the results contain allocation rates (gc.alloc.rate.norm = bytes per operation).
+plugins {
+    id("java")
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_17
+    targetCompatibility = JavaVersion.VERSION_17
+}
+
+dependencies {
+    implementation(project(":additive_core"))
+    implementation("org.openjdk.jmh:jmh-core:1.37")
+    annotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+}
+
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks with the GC profiler."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    val resultFile = layout.buildDirectory.file("reports/jmh/results.json").get().asFile
+    doFirst {
+        resultFile.parentFile.mkdirs()
+    }
+    args = listOfNotNull(
+        project.findProperty("jmh.include")?.toString(),
+        "-prof", "gc",
+        "-rf", "json",
+        "-rff", resultFile.absolutePath,
+    )
+}
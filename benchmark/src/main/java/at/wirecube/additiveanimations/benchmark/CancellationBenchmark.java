@@ -0,0 +1,74 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import at.wirecube.additiveanimations.additive_core.AccumulatedValue;
+import at.wirecube.additiveanimations.additive_core.AdditiveLayer;
+
+/**
+ * Cost of cancelling every animation of a layer one by one, oldest first.
+ * This is what happens when a new animation replaces all running animations of a target.
+ * Note that the GC profiler also counts the allocations of the per-invocation setup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CancellationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int animationCount;
+
+    private final List<AdditiveLayer.Entry<AdditiveLayer.ValueSource, AccumulatedValue>> mEntries = new ArrayList<>();
+    private LayerClient mClient;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        mClient = new LayerClient(300, 0);
+        mEntries.clear();
+        for (int i = 0; i < animationCount; i++) {
+            mEntries.add(mClient.animate(new AccumulatedValue(), i));
+        }
+    }
+
+    @Benchmark
+    public int cancelAll() {
+        for (int i = 0; i < mEntries.size(); i++) {
+            mClient.layer.remove(mEntries.get(i));
+        }
+        return mClient.layer.size();
+    }
+}
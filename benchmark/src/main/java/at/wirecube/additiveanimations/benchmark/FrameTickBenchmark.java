@@ -0,0 +1,95 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import at.wirecube.additiveanimations.additive_animator.clock.ManualFrameClock;
+import at.wirecube.additiveanimations.additive_core.AccumulatedValue;
+import at.wirecube.additiveanimations.additive_core.AnimationPlayback;
+import at.wirecube.additiveanimations.additive_core.FrameDriver;
+
+/**
+ * Cost of a single frame when {@link #stackedAnimations} additive animations are running on the same property.
+ * This is what happens when a view follows the user's finger: every touch event stacks another animation on top.
+ * Neither timing should allocate anything per frame ({@code gc.alloc.rate.norm} of 0 B/op).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FrameTickBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    public int stackedAnimations;
+
+    @Param({"linear", "spring"})
+    public String timing;
+
+    private final ManualFrameClock mClock = new ManualFrameClock();
+    private final List<LayerClient> mClients = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        FrameDriver.getInstance().setFrameClock(mClock);
+        AccumulatedValue value = new AccumulatedValue();
+        for (int i = 0; i < stackedAnimations; i++) {
+            // Repeat forever so the number of running animations stays constant for the whole measurement.
+            LayerClient client = new LayerClient(300 + i, AnimationPlayback.INFINITE);
+            if (timing.equals("spring")) {
+                client.animate(value, new SpringValueSource(value.tempValue, i));
+            } else {
+                client.animate(value, i);
+            }
+            client.start();
+            mClients.add(client);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (LayerClient client : mClients) {
+            client.stop();
+        }
+        // The driver drops stopped clients in its next frame.
+        mClock.advanceBy(ManualFrameClock.FRAME_INTERVAL_60_FPS_NANOS);
+        mClients.clear();
+    }
+
+    @Benchmark
+    public float tick() {
+        mClock.advanceBy(ManualFrameClock.FRAME_INTERVAL_60_FPS_NANOS);
+        return mClients.get(0).appliedSum;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package at.wirecube.additiveanimations.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import at.wirecube.additiveanimations.additive_core.InterpolationTable;
+
+/**
+ * Cost of evaluating the default easing curve once per frame, directly and through an {@link InterpolationTable}.
+ * {@link CubicBezierCurve} mirrors what the framework's {@code PathInterpolator} does: it flattens the curve into line segments
+ * once and then binary searches them on every call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterpolatorBenchmark {
+
+    @Param({"LINEAR", "HERMITE"})
+    public InterpolationTable.Refinement refinement;
+
+    private CubicBezierCurve mCurve;
+    private InterpolationTable mTable;
+    private float mFraction = 0f;
+
+    @Setup
+    public void setUp() {
+        mCurve = new CubicBezierCurve(0.25f, 0.1f, 0.25f, 1f);
+        mTable = new InterpolationTable(mCurve, InterpolationTable.DEFAULT_SAMPLE_COUNT, refinement);
+        System.out.println("\nmax error of " + refinement + " table: " + mTable.getMaxError());
+    }
+
+    private float nextFraction() {
+        // not a multiple of the sample spacing, so the fractions fall between samples
+        mFraction += 0.0137f;
+        if (mFraction > 1f) {
+            mFraction -= 1f;
+        }
+        return mFraction;
+    }
+
+    @Benchmark
+    public float curve() {
+        return mCurve.valueAt(nextFraction());
+    }
+
+    @Benchmark
+    public float table() {
+        return mTable.evaluate(nextFraction());
+    }
+
+    static final class CubicBezierCurve implements InterpolationTable.Curve {
+        // about as many points as Path.approximate() produces for an easing curve with the framework's precision of 0.002
+        private static final int POINT_COUNT = 200;
+
+        private final float[] mX = new float[POINT_COUNT + 1];
+        private final float[] mY = new float[POINT_COUNT + 1];
+
+        CubicBezierCurve(float x1, float y1, float x2, float y2) {
+            for (int i = 0; i <= POINT_COUNT; i++) {
+                float t = (float) i / POINT_COUNT;
+                mX[i] = bezier(t, x1, x2);
+                mY[i] = bezier(t, y1, y2);
+            }
+        }
+
+        private static float bezier(float t, float p1, float p2) {
+            float u = 1f - t;
+            return 3f * u * u * t * p1 + 3f * u * t * t * p2 + t * t * t;
+        }
+
+        @Override
+        public float valueAt(float fraction) {
+            if (fraction <= 0f) {
+                return 0f;
+            }
+            if (fraction >= 1f) {
+                return 1f;
+            }
+            int start = 0;
+            int end = POINT_COUNT;
+            while (end - start > 1) {
+                int mid = (start + end) / 2;
+                if (fraction < mX[mid]) {
+                    end = mid;
+                } else {
+                    start = mid;
+                }
+            }
+            float xRange = mX[end] - mX[start];
+            if (xRange == 0f) {
+                return mY[start];
+            }
+            float t = (fraction - mX[start]) / xRange;
+            return mY[start] + t * (mY[end] - mY[start]);
+        }
+    }
+}
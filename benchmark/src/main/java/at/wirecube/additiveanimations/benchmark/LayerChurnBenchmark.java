@@ -0,0 +1,80 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import at.wirecube.additiveanimations.additive_core.AccumulatedValue;
+import at.wirecube.additiveanimations.additive_core.AdditiveLayer;
+import at.wirecube.additiveanimations.additive_core.ObjectPool;
+
+/**
+ * Cost of filling a layer and clearing it again once it has ended, with and without an entry pool.
+ * This is the bookkeeping of a drag gesture that starts a new animation on every touch event.
+ * The animations themselves are created once in the setup, so the GC profiler only reports the allocations of the layer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LayerChurnBenchmark {
+
+    @Param({"1", "10"})
+    public int animationsPerLayer;
+
+    @Param({"false", "true"})
+    public boolean pooled;
+
+    private final AdditiveLayer<AdditiveLayer.ValueSource, AccumulatedValue> mLayer = new AdditiveLayer<>();
+    private final AccumulatedValue mValue = new AccumulatedValue();
+    private AdditiveLayer.ValueSource[] mSources;
+
+    @Setup
+    public void setUp() {
+        if (pooled) {
+            mLayer.setEntryPool(new ObjectPool<>(256));
+        }
+        mSources = new AdditiveLayer.ValueSource[animationsPerLayer];
+        for (int i = 0; i < animationsPerLayer; i++) {
+            mSources[i] = new LinearValueSource(0f, i);
+        }
+    }
+
+    @Benchmark
+    public float addAndClear() {
+        for (int i = 0; i < mSources.length; i++) {
+            mLayer.bind(mLayer.add(mSources[i]), mValue, 0f);
+        }
+        mLayer.accumulate(1f);
+        mLayer.clear();
+        return mValue.tempValue;
+    }
+}
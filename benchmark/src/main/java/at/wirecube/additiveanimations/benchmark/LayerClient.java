@@ -0,0 +1,141 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.benchmark;
+
+import java.util.List;
+
+import at.wirecube.additiveanimations.additive_core.AccumulatedValue;
+import at.wirecube.additiveanimations.additive_core.AdditiveLayer;
+import at.wirecube.additiveanimations.additive_core.AnimationPlayback;
+import at.wirecube.additiveanimations.additive_core.FrameDriver;
+
+/**
+ * A stripped-down version of the accumulator in the Android module: one layer without interpolator or listeners.
+ * The accumulated values are "applied" by summing them into {@link #appliedSum}, so the JIT can't drop the work.
+ */
+final class LayerClient implements FrameDriver.Client {
+
+    final AdditiveLayer<AdditiveLayer.ValueSource, AccumulatedValue> layer;
+    final AnimationPlayback playback = new AnimationPlayback();
+    private final AdditiveLayer.Applier<AccumulatedValue> mApplier = this::apply;
+    private boolean mIsRunning = false;
+    float appliedSum = 0f;
+    // ends the layer as soon as all of its animations have settled, like the accumulator does for springs
+    boolean endWhenSettled = false;
+    private float[] mGroupProgress = null;
+    private float[] mGroupFractions = null;
+
+    LayerClient(long durationMs, int repeatCount) {
+        this(durationMs, repeatCount, AdditiveLayer.Storage.OBJECTS);
+    }
+
+    LayerClient(long durationMs, int repeatCount, AdditiveLayer.Storage storage) {
+        layer = new AdditiveLayer<>(storage);
+        playback.configure(0, durationMs, repeatCount, AnimationPlayback.REVERSE);
+    }
+
+    AdditiveLayer.Entry<AdditiveLayer.ValueSource, AccumulatedValue> animate(AccumulatedValue value, float targetValue) {
+        return animate(value, new LinearValueSource(value.tempValue, targetValue));
+    }
+
+    AdditiveLayer.Entry<AdditiveLayer.ValueSource, AccumulatedValue> animate(AccumulatedValue value, AdditiveLayer.ValueSource source) {
+        return animate(value, source, 0);
+    }
+
+    AdditiveLayer.Entry<AdditiveLayer.ValueSource, AccumulatedValue> animate(AccumulatedValue value, AdditiveLayer.ValueSource source, int group) {
+        AdditiveLayer.Entry<AdditiveLayer.ValueSource, AccumulatedValue> entry = layer.add(source, group);
+        layer.bind(entry, value, value.tempValue);
+        return entry;
+    }
+
+    /**
+     * Staggers the groups of this layer like the accumulator does for {@code targets(list, stagger)}.
+     */
+    void stagger(long staggerMs, int groupCount) {
+        playback.setStagger(staggerMs, groupCount);
+        mGroupProgress = new float[groupCount];
+        mGroupFractions = new float[groupCount];
+    }
+
+    void start() {
+        mIsRunning = true;
+        FrameDriver.getInstance().add(this);
+    }
+
+    void stop() {
+        mIsRunning = false;
+    }
+
+    private void apply(List<AccumulatedValue> changedValues) {
+        for (int i = 0; i < changedValues.size(); i++) {
+            appliedSum += changedValues.get(i).tempValue;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return mIsRunning;
+    }
+
+    @Override
+    public boolean doFrame(long frameTimeMs) {
+        if (playback.isInStartDelay(frameTimeMs)) {
+            return false;
+        }
+        playback.update(frameTimeMs);
+        if (endWhenSettled && !playback.isFinished() && isSettled()) {
+            playback.finish();
+        }
+        if (mGroupProgress == null) {
+            layer.accumulate(playback.getIterationFraction());
+            return true;
+        }
+        int lastGroup = playback.getLastActiveGroup();
+        for (int group = playback.getFirstActiveGroup(); group <= lastGroup; group++) {
+            mGroupProgress[group] = playback.getIterationFraction(group);
+        }
+        layer.accumulate(mGroupProgress);
+        return true;
+    }
+
+    private boolean isSettled() {
+        if (mGroupProgress == null) {
+            return playback.isInLastForwardIteration() && playback.getIterationFraction() >= 0.5f &&
+                layer.isSettledAt(playback.getIterationFraction());
+        }
+        int lastGroup = mGroupProgress.length - 1;
+        if (!playback.isInLastForwardIteration(lastGroup) || playback.getIterationFraction(lastGroup) < 0.5f) {
+            return false;
+        }
+        for (int group = 0; group <= lastGroup; group++) {
+            mGroupFractions[group] = playback.getIterationFraction(group);
+        }
+        return layer.isSettledAt(mGroupFractions);
+    }
+
+    @Override
+    public void commitFrame() {
+        layer.commit(mApplier);
+    }
+
+    @Override
+    public void finishFrame() {
+        if (playback.isFinished()) {
+            mIsRunning = false;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.benchmark;
+
+import at.wirecube.additiveanimations.additive_core.AdditiveLayer;
+
+/**
+ * The simplest possible animation: a linear interpolation between two values.
+ */
+final class LinearValueSource implements AdditiveLayer.ValueSource {
+
+    final float startValue;
+    final float targetValue;
+
+    LinearValueSource(float startValue, float targetValue) {
+        this.startValue = startValue;
+        this.targetValue = targetValue;
+    }
+
+    @Override
+    public float evaluateAt(float progress) {
+        return startValue + (targetValue - startValue) * progress;
+    }
+
+    @Override
+    public boolean isLinear() {
+        return true;
+    }
+}
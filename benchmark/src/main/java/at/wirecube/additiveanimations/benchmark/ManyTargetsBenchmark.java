@@ -0,0 +1,94 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import at.wirecube.additiveanimations.additive_animator.clock.ManualFrameClock;
+import at.wirecube.additiveanimations.additive_core.AccumulatedValue;
+import at.wirecube.additiveanimations.additive_core.AdditiveLayer;
+import at.wirecube.additiveanimations.additive_core.AnimationPlayback;
+import at.wirecube.additiveanimations.additive_core.FrameDriver;
+
+/**
+ * Cost of a single frame when one layer animates {@link #targets} different values with the same timing,
+ * like a particle effect drawn on a canvas. Compares both {@link AdditiveLayer.Storage storage modes}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ManyTargetsBenchmark {
+
+    @Param({"1000", "10000"})
+    public int targets;
+
+    @Param({"OBJECTS", "PACKED"})
+    public AdditiveLayer.Storage storage;
+
+    private final ManualFrameClock mClock = new ManualFrameClock();
+    private LayerClient mClient;
+
+    @Setup
+    public void setUp() {
+        FrameDriver.getInstance().setFrameClock(mClock);
+        // Repeat forever so the number of running animations stays constant for the whole measurement.
+        mClient = new LayerClient(300, AnimationPlayback.INFINITE, storage);
+        AccumulatedValue[] values = new AccumulatedValue[targets];
+        for (int i = 0; i < targets; i++) {
+            values[i] = new AccumulatedValue();
+        }
+        // Targets of a real effect are scattered all over the heap. Animating them in a shuffled order keeps
+        // the JVM from laying out the animations and their values in perfect iteration order.
+        Collections.shuffle(Arrays.asList(values), new Random(42));
+        for (int i = 0; i < targets; i++) {
+            mClient.animate(values[i], i);
+        }
+        mClient.start();
+    }
+
+    @TearDown
+    public void tearDown() {
+        mClient.stop();
+        // The driver drops stopped clients in its next frame.
+        mClock.advanceBy(ManualFrameClock.FRAME_INTERVAL_60_FPS_NANOS);
+    }
+
+    @Benchmark
+    public float tick() {
+        mClock.advanceBy(ManualFrameClock.FRAME_INTERVAL_60_FPS_NANOS);
+        return mClient.appliedSum;
+    }
+}
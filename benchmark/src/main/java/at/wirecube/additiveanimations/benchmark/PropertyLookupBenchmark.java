@@ -0,0 +1,84 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import at.wirecube.additiveanimations.additive_core.AccumulatedValue;
+import at.wirecube.additiveanimations.additive_core.PropertyIdMap;
+import at.wirecube.additiveanimations.additive_core.PropertyRegistry;
+
+/**
+ * Cost of looking up the per-target state of a property, which happens for every animation when it starts.
+ * The name-keyed map is how this was done before property IDs existed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyLookupBenchmark {
+
+    private static final String[] PROPERTY_NAMES = {
+        "x", "y", "translationX", "translationY", "rotation", "alpha", "scaleX", "scaleY", "MARGIN_LEFT", "MARGIN_TOP"
+    };
+
+    private final Map<String, AccumulatedValue> mValuesByName = new HashMap<>();
+    private final PropertyIdMap<AccumulatedValue> mValuesById = new PropertyIdMap<>();
+    private final int[] mPropertyIds = new int[PROPERTY_NAMES.length];
+    private int mIndex = 0;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < PROPERTY_NAMES.length; i++) {
+            // copy the names, so the lookup can't take the identity shortcut in String.equals()
+            String name = new String(PROPERTY_NAMES[i]);
+            mValuesByName.put(name, new AccumulatedValue());
+            mPropertyIds[i] = PropertyRegistry.idFor(name);
+            mValuesById.put(mPropertyIds[i], new AccumulatedValue());
+        }
+    }
+
+    private int nextIndex() {
+        mIndex = (mIndex + 1) % PROPERTY_NAMES.length;
+        return mIndex;
+    }
+
+    @Benchmark
+    public AccumulatedValue lookupByName() {
+        return mValuesByName.get(PROPERTY_NAMES[nextIndex()]);
+    }
+
+    @Benchmark
+    public AccumulatedValue lookupById() {
+        return mValuesById.get(mPropertyIds[nextIndex()]);
+    }
+}
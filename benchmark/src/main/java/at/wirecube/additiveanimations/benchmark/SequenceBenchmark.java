@@ -0,0 +1,161 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import at.wirecube.additiveanimations.additive_animator.sequence.AnimationSequence;
+
+/**
+ * Cost of scheduling sequences with many steps, e.g. staggering an animation across 500 targets.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SequenceBenchmark {
+
+    /**
+     * A leaf of the sequence tree that only records when it was asked to start.
+     */
+    static final class Step extends AnimationSequence {
+        long delay = 0;
+        long startedWithDelay = -1;
+
+        @Override
+        public void start() {
+            startedWithDelay = delay;
+        }
+
+        @Override
+        public void setDelayInSequence(long delay) {
+            this.delay = delay;
+        }
+
+        @Override
+        public long getDelayInSequence() {
+            return delay;
+        }
+
+        @Override
+        public long getTotalDurationInSequence() {
+            return delay + 300;
+        }
+    }
+
+    /**
+     * A choreography nested `steps` levels deep: playSequentially(step, playSequentially(step, ...))
+     */
+    static AnimationSequence deep(int steps) {
+        AnimationSequence deep = new Step();
+        for (int i = 1; i < steps; i++) {
+            deep = AnimationSequence.playSequentially(new Step(), deep);
+        }
+        return deep;
+    }
+
+    /**
+     * A new deep tree for every invocation, since animators can only be started once:
+     * the first start of a tree includes compiling it.
+     */
+    @State(Scope.Thread)
+    public static class FreshDeepSequence {
+        @Param({"10", "100", "500"})
+        public int steps;
+
+        AnimationSequence sequence;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            sequence = deep(steps);
+        }
+    }
+
+    @Param({"10", "100", "500"})
+    public int steps;
+
+    private AnimationSequence mSequential;
+    private AnimationSequence mStaggered;
+    private AnimationSequence mNested;
+    private AnimationSequence mDeep;
+
+    @Setup
+    public void setUp() {
+        List<AnimationSequence> sequential = new ArrayList<>();
+        List<AnimationSequence> staggered = new ArrayList<>();
+        List<AnimationSequence> nested = new ArrayList<>();
+        for (int i = 0; i < steps; i++) {
+            sequential.add(new Step());
+            staggered.add(new Step());
+            nested.add(AnimationSequence.playTogether(new Step(), new Step()));
+        }
+        mSequential = AnimationSequence.playSequentially(sequential);
+        mStaggered = AnimationSequence.playWithDelayBetweenAnimations(20, staggered.toArray(new AnimationSequence[0]));
+        mNested = AnimationSequence.playSequentially(nested);
+        mDeep = deep(steps);
+    }
+
+    @Benchmark
+    public AnimationSequence startSequentially() {
+        mSequential.start();
+        return mSequential;
+    }
+
+    @Benchmark
+    public AnimationSequence startStaggered() {
+        mStaggered.start();
+        return mStaggered;
+    }
+
+    @Benchmark
+    public AnimationSequence startNested() {
+        mNested.start();
+        return mNested;
+    }
+
+    /**
+     * Starts the same tree again and again, so this only measures starting an already compiled timeline.
+     */
+    @Benchmark
+    public AnimationSequence startDeep() {
+        mDeep.start();
+        return mDeep;
+    }
+
+    @Benchmark
+    public AnimationSequence compileAndStartDeep(FreshDeepSequence fresh) {
+        fresh.sequence.start();
+        return fresh.sequence;
+    }
+}
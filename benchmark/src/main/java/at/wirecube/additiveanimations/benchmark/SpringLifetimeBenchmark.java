@@ -0,0 +1,79 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import at.wirecube.additiveanimations.additive_animator.clock.ManualFrameClock;
+import at.wirecube.additiveanimations.additive_core.AccumulatedValue;
+import at.wirecube.additiveanimations.additive_core.FrameDriver;
+import at.wirecube.additiveanimations.helper.SpringSolver;
+
+/**
+ * Cost of running a layer of springs from start to end, with and without ending the layer once every spring has settled.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpringLifetimeBenchmark {
+
+    @Param({"1", "100"})
+    public int springs;
+
+    @Param({"false", "true"})
+    public boolean endWhenSettled;
+
+    private final ManualFrameClock mClock = new ManualFrameClock();
+    private LayerClient mClient;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        FrameDriver.getInstance().setFrameClock(mClock);
+        mClient = new LayerClient(SpringSolver.settlingDurationMs(300f, 0.5f), 0);
+        mClient.endWhenSettled = endWhenSettled;
+        for (int i = 0; i < springs; i++) {
+            mClient.animate(new AccumulatedValue(), new SpringValueSource(0f, 100f + i));
+        }
+    }
+
+    @Benchmark
+    public float runToEnd() {
+        mClient.start();
+        while (mClient.isRunning()) {
+            mClock.advanceBy(ManualFrameClock.FRAME_INTERVAL_60_FPS_NANOS);
+        }
+        // the driver drops the finished client in its next frame
+        mClock.advanceBy(ManualFrameClock.FRAME_INTERVAL_60_FPS_NANOS);
+        return mClient.appliedSum;
+    }
+}
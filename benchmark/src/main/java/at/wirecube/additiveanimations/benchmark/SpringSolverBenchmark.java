@@ -0,0 +1,82 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import at.wirecube.additiveanimations.helper.SpringSolver;
+
+/**
+ * Cost of evaluating a spring once per frame, in all three damping regimes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpringSolverBenchmark {
+
+    @Param({"0.5", "1.0", "2.0"})
+    public float dampingRatio;
+
+    private SpringSolver mSolver;
+    private float mElapsedSeconds = 0f;
+
+    @Setup
+    public void setUp() {
+        mSolver = new SpringSolver(300f, dampingRatio, 0f, 100f, 0f);
+    }
+
+    private float nextFrameTime() {
+        mElapsedSeconds += 1f / 60f;
+        if (mElapsedSeconds > 1f) {
+            mElapsedSeconds = 0f;
+        }
+        return mElapsedSeconds;
+    }
+
+    @Benchmark
+    public float solve() {
+        return mSolver.solve(nextFrameTime());
+    }
+
+    @Benchmark
+    public boolean isSettled() {
+        return mSolver.isSettled(nextFrameTime(), SpringSolver.DEFAULT_SETTLING_THRESHOLD);
+    }
+
+    /**
+     * Baseline for animations that don't keep their solver around and create a new one every frame.
+     */
+    @Benchmark
+    public float createAndSolve() {
+        return new SpringSolver(300f, dampingRatio, 0f, 100f, 0f).solve(nextFrameTime());
+    }
+}
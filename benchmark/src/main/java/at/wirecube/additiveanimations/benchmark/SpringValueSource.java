@@ -0,0 +1,48 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.benchmark;
+
+import at.wirecube.additiveanimations.additive_core.AdditiveLayer;
+import at.wirecube.additiveanimations.helper.SpringSolver;
+
+/**
+ * A spring animation which keeps its solver for its whole lifetime, like AdditiveAnimation does.
+ */
+final class SpringValueSource implements AdditiveLayer.ValueSource {
+
+    private static final float STIFFNESS = 300f;
+    private static final float DAMPING_RATIO = 0.5f;
+
+    private final SpringSolver mSolver;
+    private final float mSettlingDurationSeconds;
+
+    SpringValueSource(float startValue, float targetValue) {
+        mSolver = new SpringSolver(STIFFNESS, DAMPING_RATIO, startValue, targetValue, 0f);
+        mSettlingDurationSeconds = SpringSolver.settlingDurationMs(STIFFNESS, DAMPING_RATIO) / 1000f;
+    }
+
+    @Override
+    public float evaluateAt(float progress) {
+        return mSolver.solve(progress * mSettlingDurationSeconds);
+    }
+
+    @Override
+    public boolean isSettledAt(float progress) {
+        // the same thresholds as AdditiveAnimation
+        return mSolver.isSettled(progress * mSettlingDurationSeconds, SpringSolver.DEFAULT_SETTLING_THRESHOLD, SpringSolver.DEFAULT_SETTLING_THRESHOLD * 60f);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package at.wirecube.additiveanimations.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import at.wirecube.additiveanimations.additive_animator.clock.ManualFrameClock;
+import at.wirecube.additiveanimations.additive_core.AccumulatedValue;
+import at.wirecube.additiveanimations.additive_core.AdditiveLayer;
+import at.wirecube.additiveanimations.additive_core.AnimationPlayback;
+import at.wirecube.additiveanimations.additive_core.FrameDriver;
+
+/**
+ * Cost of a whole staggered animation of {@link #targets} targets with two properties each, from creating the layers
+ * until the last target has finished: one delayed layer per target (how {@code targets(list, stagger)} used to work)
+ * versus a single layer with one group per target.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StaggerBenchmark {
+
+    private static final long DURATION_MS = 300;
+    private static final long STAGGER_MS = 5;
+
+    @Param({"10", "300"})
+    public int targets;
+
+    private final ManualFrameClock mClock = new ManualFrameClock();
+    private AccumulatedValue[] mValues;
+
+    @Setup
+    public void setUp() {
+        FrameDriver.getInstance().setFrameClock(mClock);
+        mValues = new AccumulatedValue[targets * 2];
+        for (int i = 0; i < mValues.length; i++) {
+            mValues[i] = new AccumulatedValue();
+        }
+    }
+
+    @Benchmark
+    public float layerPerTarget() {
+        LayerClient last = null;
+        for (int i = 0; i < targets; i++) {
+            LayerClient client = new LayerClient(DURATION_MS, 0);
+            client.playback.configure(i * STAGGER_MS, DURATION_MS, 0, AnimationPlayback.RESTART);
+            client.animate(mValues[i * 2], new LinearValueSource(0f, 100f));
+            client.animate(mValues[i * 2 + 1], new LinearValueSource(0f, 50f));
+            client.start();
+            last = client;
+        }
+        return runUntilFinished(last);
+    }
+
+    @Benchmark
+    public float staggeredLayer() {
+        return staggered(AdditiveLayer.Storage.OBJECTS);
+    }
+
+    @Benchmark
+    public float staggeredPackedLayer() {
+        return staggered(AdditiveLayer.Storage.PACKED);
+    }
+
+    private float staggered(AdditiveLayer.Storage storage) {
+        LayerClient client = new LayerClient(DURATION_MS, 0, storage);
+        client.stagger(STAGGER_MS, targets);
+        for (int i = 0; i < targets; i++) {
+            client.animate(mValues[i * 2], new LinearValueSource(0f, 100f), i);
+            client.animate(mValues[i * 2 + 1], new LinearValueSource(0f, 50f), i);
+        }
+        client.start();
+        return runUntilFinished(client);
+    }
+
+    private float runUntilFinished(LayerClient lastToFinish) {
+        while (lastToFinish.isRunning()) {
+            mClock.advanceBy(ManualFrameClock.FRAME_INTERVAL_60_FPS_NANOS);
+        }
+        // the driver drops finished clients in its next frame
+        mClock.advanceBy(ManualFrameClock.FRAME_INTERVAL_60_FPS_NANOS);
+        return lastToFinish.appliedSum;
+    }
+}
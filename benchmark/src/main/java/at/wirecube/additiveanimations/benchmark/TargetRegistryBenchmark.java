@@ -0,0 +1,81 @@
+/*
+ *  Copyright 2026 David Ganster
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package at.wirecube.additiveanimations.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import at.wirecube.additiveanimations.additive_core.WeakIdentityMap;
+
+/**
+ * Cost of finding the state of a (non-View) animation target, which happens whenever an animation is added, started or cancelled.
+ * The HashMap is how this was done before the registry held its targets weakly.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TargetRegistryBenchmark {
+
+    @Param({"10", "1000"})
+    public int targetCount;
+
+    private final Map<Object, Object> mHashMap = new HashMap<>();
+    private final WeakIdentityMap<Object, Object> mWeakIdentityMap = new WeakIdentityMap<>();
+    private Object[] mTargets;
+    private int mIndex = 0;
+
+    @Setup
+    public void setUp() {
+        mTargets = new Object[targetCount];
+        for (int i = 0; i < targetCount; i++) {
+            mTargets[i] = new Object();
+            mHashMap.put(mTargets[i], new Object());
+            mWeakIdentityMap.put(mTargets[i], new Object());
+        }
+    }
+
+    private Object nextTarget() {
+        mIndex = (mIndex + 1) % mTargets.length;
+        return mTargets[mIndex];
+    }
+
+    @Benchmark
+    public Object hashMap() {
+        return mHashMap.get(nextTarget());
+    }
+
+    @Benchmark
+    public Object weakIdentityMap() {
+        return mWeakIdentityMap.get(nextTarget());
+    }
+}
@@ -4,6 +4,7 @@ plugins {
     id("com.android.application") version "8.8.0" apply false
     id("com.android.library") version "8.8.0" apply false
     id("org.jetbrains.kotlin.android") version "2.1.10" apply false
+    id("org.jetbrains.kotlin.jvm") version "2.1.10" apply false
 }
 
 tasks.register<Delete>("clean") {
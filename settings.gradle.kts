@@ -16,7 +16,9 @@ dependencyResolutionManagement {
 
 rootProject.name = "android_additive_animations"
 
+include(":additive_core")
 include(":additive_animations")
 include(":demo")
+include(":benchmark")
 
 